@@ -27,6 +27,13 @@ def injected_transactions(transaction_rate: int,
     return  total_transactions
 
 
+def spammer_report_value(report_file: str, name: str='confirmed') -> str:
+    p = Properties()
+    logging.debug('Opening spammer report %s', report_file)
+    p.load(open(report_file))
+    return p[name]
+
+
 def update_properties_file(properties_file, new_properties):
     p = Properties()
     logging.debug('Opening file %s', properties_file)
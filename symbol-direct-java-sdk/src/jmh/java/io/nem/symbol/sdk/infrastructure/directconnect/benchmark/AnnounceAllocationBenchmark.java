@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import io.nem.symbol.sdk.infrastructure.directconnect.network.SocketClient;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of announcing a transaction: the packet written straight to the socket
+ * stream, as announces do now, against the packet buffer built with {@link
+ * Packet#CreatePacketByteBuffer(PacketType, byte[])} first, as they did before. The socket discards
+ * what is written. Run with -prof gc, the gc.alloc.rate.norm counter is the bytes allocated per
+ * announce.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnnounceAllocationBenchmark {
+  @Param({"200", "1000", "10000"})
+  private int transactionSize;
+
+  private SocketClient socketClient;
+  private byte[] transactionBytes;
+
+  /** Creates the client on a socket discarding its output. */
+  @Setup
+  public void setUp() {
+    socketClient = SocketClient.create(new DiscardingSocket());
+    transactionBytes = new byte[transactionSize];
+    new Random(transactionSize).nextBytes(transactionBytes);
+  }
+
+  /** Header and payload written straight to the socket stream. */
+  @Benchmark
+  public void writePacket() {
+    socketClient.WritePacket(PacketType.PUSH_TRANSACTIONS, transactionBytes);
+  }
+
+  /** Packet buffer built before it is written. */
+  @Benchmark
+  public void createPacketByteBuffer() {
+    socketClient.Write(
+        Packet.CreatePacketByteBuffer(PacketType.PUSH_TRANSACTIONS, transactionBytes));
+  }
+
+  /** Unconnected socket whose output stream discards everything written to it. */
+  private static class DiscardingSocket extends Socket {
+    private final OutputStream outputStream =
+        new OutputStream() {
+          @Override
+          public void write(final int b) {}
+
+          @Override
+          public void write(final byte[] b, final int off, final int len) {}
+        };
+
+    @Override
+    public OutputStream getOutputStream() {
+      return outputStream;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import com.mongodb.client.MongoDatabase;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Database the benchmarks read their sample documents from, set with the jmh.mongoHost,
+ * jmh.mongoPort and jmh.sampleSize system properties. The benchmarks need a catapult database
+ * with blocks and transactions, such as the one of a local test network.
+ */
+final class BenchmarkDatabase {
+  /* Mongo host. */
+  static final String HOST = System.getProperty("jmh.mongoHost", "localhost");
+  /* Mongo port. */
+  static final int PORT = Integer.getInteger("jmh.mongoPort", 27017);
+  /* Number of sample documents read from each collection. */
+  static final int SAMPLE_SIZE = Integer.getInteger("jmh.sampleSize", 1000);
+
+  private BenchmarkDatabase() {}
+
+  /**
+   * Creates a data access context on the benchmark database.
+   *
+   * @param databaseDriver Database driver.
+   * @return Data access context.
+   */
+  static DataAccessContext createContext(final DatabaseDriver databaseDriver) {
+    return new DataAccessContext(HOST, PORT, 0, databaseDriver);
+  }
+
+  /**
+   * Reads sample documents from a collection.
+   *
+   * @param context Data access context.
+   * @param collectionName Collection name.
+   * @return Raw sample documents.
+   */
+  static List<RawBsonDocument> loadSamples(
+      final DataAccessContext context, final String collectionName) {
+    return loadSamples(context, collectionName, new BsonDocument());
+  }
+
+  /**
+   * Reads sample documents matching a filter from a collection.
+   *
+   * @param context Data access context.
+   * @param collectionName Collection name.
+   * @param filter Document filter.
+   * @return Raw sample documents.
+   */
+  static List<RawBsonDocument> loadSamples(
+      final DataAccessContext context, final String collectionName, final Bson filter) {
+    final MongoDatabase database = context.getCatapultMongoDbClient().getDatabase();
+    final List<RawBsonDocument> samples =
+        database
+            .getCollection(collectionName, RawBsonDocument.class)
+            .find(filter)
+            .limit(SAMPLE_SIZE)
+            .into(new ArrayList<RawBsonDocument>());
+    if (samples.isEmpty()) {
+      throw new IllegalStateException(
+          "No " + collectionName + " documents found in the database at " + HOST + ":" + PORT);
+    }
+    return samples;
+  }
+}
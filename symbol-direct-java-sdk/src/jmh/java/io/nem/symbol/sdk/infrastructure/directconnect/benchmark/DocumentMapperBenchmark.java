@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.BlocksInfoMapper;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.JsonObjectMapper;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.RawBsonDocumentMapper;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.RawBsonJsonObjectMapper;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.TransactionMapper;
+import io.vertx.core.json.JsonObject;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the ways a stored document becomes the json object read by the domain mappers: the
+ * original json string round trip, the document tree copy and the raw bson reader. The model
+ * benchmarks go on to the block or transaction model, through the json object or straight from
+ * the bytes. Every path starts from the document bytes, as they come from the driver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DocumentMapperBenchmark {
+  private static final JsonWriterSettings JSON_WRITER_SETTINGS =
+      JsonWriterSettings.builder()
+          .binaryConverter(
+              (value, writer) -> writer.writeString(ConvertUtils.toHex(value.getData())))
+          .outputMode(JsonMode.RELAXED)
+          .build();
+
+  @Param({"blocks", "transactions"})
+  private String collectionName;
+
+  private List<RawBsonDocument> samples;
+  private final DocumentCodec documentCodec = new DocumentCodec();
+  private final JsonObjectMapper jsonObjectMapper = new JsonObjectMapper();
+  private final RawBsonJsonObjectMapper rawBsonJsonObjectMapper = new RawBsonJsonObjectMapper();
+  private Function<JsonObject, ?> modelMapper;
+  private RawBsonDocumentMapper<?> rawModelMapper;
+
+  /** Reads the sample documents. */
+  @Setup
+  public void setUp() {
+    final DataAccessContext context = BenchmarkDatabase.createContext(DatabaseDriver.SYNC);
+    samples = BenchmarkDatabase.loadSamples(context, collectionName);
+    if ("blocks".equals(collectionName)) {
+      final BlocksInfoMapper blocksInfoMapper = new BlocksInfoMapper();
+      modelMapper = blocksInfoMapper;
+      rawModelMapper = blocksInfoMapper;
+    } else {
+      final TransactionMapper transactionMapper = new TransactionMapper();
+      modelMapper = transactionMapper;
+      rawModelMapper = transactionMapper;
+    }
+  }
+
+  /**
+   * Document decoded from the bytes, written as a json string and parsed again.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void jsonString(final Blackhole blackhole) {
+    for (final RawBsonDocument sample : samples) {
+      final Document document = sample.decode(documentCodec);
+      blackhole.consume(new JsonObject(document.toJson(JSON_WRITER_SETTINGS)));
+    }
+  }
+
+  /**
+   * Document decoded from the bytes and copied into a json object.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void documentTree(final Blackhole blackhole) {
+    for (final RawBsonDocument sample : samples) {
+      blackhole.consume(jsonObjectMapper.apply(sample.decode(documentCodec)));
+    }
+  }
+
+  /**
+   * Bytes read straight into a json object.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void rawBson(final Blackhole blackhole) {
+    for (final RawBsonDocument sample : samples) {
+      blackhole.consume(rawBsonJsonObjectMapper.apply(sample));
+    }
+  }
+
+  /**
+   * Document decoded from the bytes, copied into a json object and mapped to the model, as the
+   * lookups do.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void documentTreeModel(final Blackhole blackhole) {
+    for (final RawBsonDocument sample : samples) {
+      blackhole.consume(
+          modelMapper.apply(jsonObjectMapper.apply(sample.decode(documentCodec))));
+    }
+  }
+
+  /**
+   * Bytes read straight into the model, as the scans do.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void rawBsonModel(final Blackhole blackhole) {
+    for (final RawBsonDocument sample : samples) {
+      blackhole.consume(rawModelMapper.map(sample));
+    }
+  }
+}
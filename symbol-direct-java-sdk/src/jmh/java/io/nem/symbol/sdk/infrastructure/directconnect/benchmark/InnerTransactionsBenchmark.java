@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import com.mongodb.client.model.Filters;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.TransactionsCollection;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import org.bson.RawBsonDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the aggregate throughput of resolving inner transactions for a batch of aggregates
+ * with one query against resolving them one aggregate at a time. The samples are the aggregate
+ * transactions of the benchmark database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InnerTransactionsBenchmark {
+  private TransactionsCollection transactionsCollection;
+  private List<String> aggregateHashes;
+  private int timeoutInSeconds;
+
+  /** Reads the hashes of the sample aggregates. */
+  @Setup
+  public void setUp() {
+    final DataAccessContext context = BenchmarkDatabase.createContext(DatabaseDriver.SYNC);
+    transactionsCollection =
+        context.getCollection(TransactionsCollection.class, TransactionsCollection::new);
+    timeoutInSeconds = context.getDatabaseTimeoutInSeconds();
+    final List<RawBsonDocument> samples =
+        BenchmarkDatabase.loadSamples(
+            context,
+            "transactions",
+            Filters.in(
+                "transaction.type",
+                TransactionType.AGGREGATE_COMPLETE.getValue(),
+                TransactionType.AGGREGATE_BONDED.getValue()));
+    aggregateHashes =
+        samples.stream()
+            .map(s -> ConvertUtils.toHex(s.getDocument("meta").getBinary("hash").getData()))
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * Reads the aggregates and all their inner transactions with one query each.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void batch(final Blackhole blackhole) {
+    blackhole.consume(transactionsCollection.getTransactions(aggregateHashes));
+  }
+
+  /**
+   * Reads each aggregate and its inner transactions on their own.
+   *
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  public void perAggregate(final Blackhole blackhole) {
+    for (final String aggregateHash : aggregateHashes) {
+      blackhole.consume(transactionsCollection.findByHash(aggregateHash, timeoutInSeconds));
+    }
+  }
+}
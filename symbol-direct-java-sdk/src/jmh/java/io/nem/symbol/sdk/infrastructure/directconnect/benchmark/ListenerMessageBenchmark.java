@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.TransactionStatusCode;
+import io.nem.symbol.sdk.infrastructure.directconnect.listener.MessageMarker;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the listener messages handled per second for each message marker: the marker found
+ * from the raw topic frame and the message decoded by its handler, as a listener lane does. The
+ * messages run on one thread and on one thread per core, so the per core rate is the score divided
+ * by the thread count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ListenerMessageBenchmark {
+  private static final NetworkType NETWORK_TYPE = NetworkType.MIJIN_TEST;
+  private static final int HASH_SIZE = 32;
+  private static final int ADDRESS_SIZE = 24;
+  /* Size of a block header, with the offsets of the fields the block handler reads. */
+  private static final int BLOCK_HEADER_SIZE = 376;
+  private static final int BLOCK_VERSION_OFFSET = 108;
+  private static final int BLOCK_NETWORK_OFFSET = 109;
+  private static final int BLOCK_TYPE_OFFSET = 110;
+  private static final int BLOCK_HEIGHT_OFFSET = 112;
+  /* Size of a detached cosignature: version, signer public key, signature and parent hash. */
+  private static final int COSIGNATURE_SIZE = 8 + 32 + 64 + 32;
+
+  @Param private MessageMarker messageMarker;
+
+  private final Random random = new Random(1);
+  private byte[] topic;
+  private List<byte[]> frames;
+
+  /** Builds the frames of a message of the marker. */
+  @Setup
+  public void setUp() {
+    switch (messageMarker) {
+      case Block_Marker:
+        topic = messageMarker.getMarkerBytes();
+        frames = Arrays.asList(createBlockHeader(), randomBytes(HASH_SIZE), randomBytes(HASH_SIZE));
+        break;
+      case Transaction_Marker:
+      case Unconfirmed_Transaction_Add_Marker:
+      case Partial_Transaction_Add_Marker:
+        topic = createAddressTopic();
+        frames =
+            Arrays.asList(
+                createTransactionPayload(),
+                randomBytes(HASH_SIZE),
+                randomBytes(HASH_SIZE),
+                ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 1000).array());
+        break;
+      case Transaction_Status_Marker:
+        topic = createAddressTopic();
+        frames = Collections.singletonList(createStatus());
+        break;
+      case Cosignature_Marker:
+        topic = createAddressTopic();
+        frames = Collections.singletonList(randomBytes(COSIGNATURE_SIZE));
+        break;
+      default:
+        topic = createAddressTopic();
+        frames = Collections.singletonList(randomBytes(HASH_SIZE));
+        break;
+    }
+  }
+
+  /**
+   * Handles the message on a single thread.
+   *
+   * @return Handled message.
+   */
+  @Benchmark
+  @Threads(1)
+  public Object handleSingleThread() {
+    return handle();
+  }
+
+  /**
+   * Handles the message on one thread per core.
+   *
+   * @return Handled message.
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object handleAllCores() {
+    return handle();
+  }
+
+  /**
+   * Finds the marker from the topic frame only.
+   *
+   * @return Message marker.
+   */
+  @Benchmark
+  @Threads(1)
+  public MessageMarker rawValueOf() {
+    return MessageMarker.rawValueOf(topic);
+  }
+
+  private Object handle() {
+    return MessageMarker.rawValueOf(topic).getMessageHandler().handleMessage(frames);
+  }
+
+  private byte[] randomBytes(final int size) {
+    final byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  private byte[] createAddressTopic() {
+    final byte[] marker = messageMarker.getMarkerBytes();
+    final byte[] address = randomBytes(ADDRESS_SIZE);
+    final byte[] addressTopic = Arrays.copyOf(marker, marker.length + ADDRESS_SIZE);
+    System.arraycopy(address, 0, addressTopic, marker.length, ADDRESS_SIZE);
+    return addressTopic;
+  }
+
+  private byte[] createBlockHeader() {
+    final ByteBuffer header =
+        ByteBuffer.wrap(randomBytes(BLOCK_HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(0, BLOCK_HEADER_SIZE);
+    header.put(BLOCK_VERSION_OFFSET, (byte) 1);
+    header.put(BLOCK_NETWORK_OFFSET, (byte) NETWORK_TYPE.getValue());
+    header.putShort(BLOCK_TYPE_OFFSET, (short) 0x8143);
+    header.putLong(BLOCK_HEIGHT_OFFSET, 1000);
+    return header.array();
+  }
+
+  private byte[] createTransactionPayload() {
+    final Account signer = Account.generateNewAccount(NETWORK_TYPE);
+    final TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NETWORK_TYPE,
+                Account.generateNewAccount(NETWORK_TYPE).getAddress(),
+                Collections.emptyList(),
+                PlainMessage.create("listener benchmark"))
+            .deadline(Deadline.create(2, ChronoUnit.HOURS))
+            .maxFee(BigInteger.valueOf(1000000))
+            .build();
+    return ConvertUtils.fromHexToBytes(
+        signer.sign(transaction, ConvertUtils.toHex(randomBytes(HASH_SIZE))).getPayload());
+  }
+
+  private byte[] createStatus() {
+    /* The status handler reads the code as a big endian int, then the deadline and hash. */
+    return ByteBuffer.allocate(4 + 8 + HASH_SIZE)
+        .putInt((int) TransactionStatusCode.FAILURE_CORE_PAST_DEADLINE.getValue())
+        .put(randomBytes(8 + HASH_SIZE))
+        .array();
+  }
+}
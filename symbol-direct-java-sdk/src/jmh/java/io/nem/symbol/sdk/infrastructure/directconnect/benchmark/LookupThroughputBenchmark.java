@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.BlocksCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.ChainStatisticCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.FullBlockInfo;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the block lookup throughput of the database drivers with many lookups in flight. Sync
+ * lookups each hold an io thread, as the dao observables do when subscribed on the io scheduler;
+ * reactive lookups wait on the driver event loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LookupThroughputBenchmark {
+  /* Lookups made by each benchmark invocation. */
+  private static final int LOOKUP_COUNT = 10000;
+
+  @Param({"SYNC", "REACTIVE"})
+  private DatabaseDriver databaseDriver;
+
+  @Param({"64", "1024"})
+  private int concurrency;
+
+  private BlocksCollection blocksCollection;
+  private long chainHeight;
+
+  /** Opens the collections on the selected driver. */
+  @Setup
+  public void setUp() {
+    final DataAccessContext context = BenchmarkDatabase.createContext(databaseDriver);
+    blocksCollection = context.getCollection(BlocksCollection.class, BlocksCollection::new);
+    chainHeight =
+        context
+            .getCollection(ChainStatisticCollection.class, ChainStatisticCollection::new)
+            .get()
+            .getNumBlocks()
+            .longValue();
+  }
+
+  /**
+   * Looks up blocks spread over the chain with a bounded number of lookups in flight.
+   *
+   * @return Number of blocks found.
+   */
+  @Benchmark
+  @OperationsPerInvocation(LOOKUP_COUNT)
+  public long blockByHeight() {
+    return Flowable.range(0, LOOKUP_COUNT)
+        .flatMapMaybe(index -> findBlock(1 + index % chainHeight), false, concurrency)
+        .count()
+        .blockingGet();
+  }
+
+  private Maybe<FullBlockInfo> findBlock(final long height) {
+    final Maybe<FullBlockInfo> lookup = blocksCollection.findAsync(height);
+    return databaseDriver == DatabaseDriver.SYNC ? lookup.subscribeOn(Schedulers.io()) : lookup;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.benchmark;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.TransactionCurrentState;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.PartialTransactionsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.TransactionCurrentStatusesCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.TransactionsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.UnconfirmedTransactionsCollection;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Profiles a status polling loop. Each poll looks a transaction up in the unconfirmed, partial,
+ * confirmed and status collections, in the order the transaction dao does. The shared poll uses the
+ * collections of the context, as the dao does now. The per call poll builds the collections for
+ * every poll, as the dao did before. Run with -prof gc, the gc.alloc.rate.norm counter is the bytes
+ * allocated per poll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StatusPollingBenchmark {
+  private DataAccessContext context;
+  private List<TransactionCurrentState> sharedStates;
+  private List<String> transactionHashes;
+  private int nextHash;
+
+  /** Reads the hashes of the sample transactions. */
+  @Setup
+  public void setUp() {
+    context = BenchmarkDatabase.createContext(DatabaseDriver.SYNC);
+    sharedStates =
+        Arrays.asList(
+            context.getCollection(
+                UnconfirmedTransactionsCollection.class, UnconfirmedTransactionsCollection::new),
+            context.getCollection(
+                PartialTransactionsCollection.class, PartialTransactionsCollection::new),
+            context.getCollection(TransactionsCollection.class, TransactionsCollection::new),
+            context.getCollection(
+                TransactionCurrentStatusesCollection.class,
+                TransactionCurrentStatusesCollection::new));
+    transactionHashes =
+        BenchmarkDatabase.loadSamples(context, "transactions").stream()
+            .map(s -> ConvertUtils.toHex(s.getDocument("meta").getBinary("hash").getData()))
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * Polls with the collections shared by the context.
+   *
+   * @return Transaction status.
+   */
+  @Benchmark
+  public Optional<TransactionStatus> sharedCollections() {
+    return poll(sharedStates);
+  }
+
+  /**
+   * Polls with collections built for the poll.
+   *
+   * @return Transaction status.
+   */
+  @Benchmark
+  public Optional<TransactionStatus> collectionsPerCall() {
+    return poll(
+        Arrays.asList(
+            new UnconfirmedTransactionsCollection(context),
+            new PartialTransactionsCollection(context),
+            new TransactionsCollection(context),
+            new TransactionCurrentStatusesCollection(context)));
+  }
+
+  private Optional<TransactionStatus> poll(final List<TransactionCurrentState> states) {
+    final String transactionHash = transactionHashes.get(nextHash++ % transactionHashes.size());
+    for (final TransactionCurrentState state : states) {
+      final Optional<TransactionStatus> transactionStatus = state.getStatus(transactionHash);
+      if (transactionStatus.isPresent()) {
+        return transactionStatus;
+      }
+    }
+    return Optional.empty();
+  }
+}
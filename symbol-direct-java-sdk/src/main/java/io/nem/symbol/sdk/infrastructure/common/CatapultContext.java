@@ -21,15 +21,26 @@
 package io.nem.symbol.sdk.infrastructure.common;
 
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.network.AnnounceRouter;
 import io.nem.symbol.sdk.infrastructure.directconnect.network.BrokerNodeContext;
 import io.nem.symbol.sdk.infrastructure.directconnect.network.CatapultNodeContext;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 /** Catapult server context. */
 public class CatapultContext {
   private final CatapultNodeContext apiNodeContext;
+  /* Spreads the announces over the api nodes. */
+  private final AnnounceRouter announceRouter;
   private final BrokerNodeContext brokerNodeContext;
   private final DataAccessContext dataAccessContext;
   private final String configPath;
+  /* Daos shared by all the users of this context. */
+  private final Map<Class<?>, Object> daos = new ConcurrentHashMap<>();
 
   /**
    * Constructor - Use the default ports for the given host.
@@ -44,7 +55,32 @@ public class CatapultContext {
           final DataAccessContext dataAccessContext,
           final BrokerNodeContext brokerNodeContext,
           final String configPath) {
-    this.apiNodeContext = apiNodeContext;
+    this(
+        Collections.singletonList(apiNodeContext),
+        1,
+        dataAccessContext,
+        brokerNodeContext,
+        configPath);
+  }
+
+  /**
+   * Constructor - Announce through several api nodes. The first node is used for the other
+   * requests.
+   *
+   * @param apiNodeContexts Api server contexts.
+   * @param announceFanOut Number of api nodes each announce is sent to.
+   * @param dataAccessContext Data access context.
+   * @param brokerNodeContext Broker server context.
+   * @param configPath Path to the symbol config files.
+   */
+  public CatapultContext(
+          final List<CatapultNodeContext> apiNodeContexts,
+          final int announceFanOut,
+          final DataAccessContext dataAccessContext,
+          final BrokerNodeContext brokerNodeContext,
+          final String configPath) {
+    this.apiNodeContext = apiNodeContexts.get(0);
+    this.announceRouter = new AnnounceRouter(apiNodeContexts, announceFanOut);
     this.dataAccessContext = dataAccessContext;
     this.brokerNodeContext = brokerNodeContext;
     this.configPath = configPath;
@@ -68,6 +104,15 @@ public class CatapultContext {
     return apiNodeContext;
   }
 
+  /**
+   * Gets the router spreading the announces over the api nodes.
+   *
+   * @return Announce router.
+   */
+  public AnnounceRouter getAnnounceRouter() {
+    return announceRouter;
+  }
+
   /**
    * Gets Symbol broker node context.
    *
@@ -77,6 +122,24 @@ public class CatapultContext {
     return brokerNodeContext;
   }
 
+  /**
+   * Gets the shared instance of a dao, creating it on first use.
+   *
+   * @param daoClass Dao class.
+   * @param factory Creates the dao for this context.
+   * @param <D> Dao type.
+   * @return Dao.
+   */
+  public <D> D getDao(final Class<D> daoClass, final Function<CatapultContext, D> factory) {
+    final Object dao = daos.get(daoClass);
+    if (dao != null) {
+      return daoClass.cast(dao);
+    }
+    final Object created = factory.apply(this);
+    final Object existing = daos.putIfAbsent(daoClass, created);
+    return daoClass.cast(existing == null ? created : existing);
+  }
+
   /**
    * Gets config path for Symbol server.
    *
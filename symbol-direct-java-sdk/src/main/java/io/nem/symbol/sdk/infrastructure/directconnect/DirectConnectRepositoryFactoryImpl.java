@@ -84,7 +84,7 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public AccountRepository createAccountRepository() {
-    return new AccountsDao(context);
+    return context.getDao(AccountsDao.class, AccountsDao::new);
   }
 
   /**
@@ -94,7 +94,7 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public MultisigRepository createMultisigRepository() {
-    return new MultisigDao(context);
+    return context.getDao(MultisigDao.class, MultisigDao::new);
   }
 
   /**
@@ -104,7 +104,7 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public BlockRepository createBlockRepository() {
-    return new BlockchainDao(context);
+    return context.getDao(BlockchainDao.class, BlockchainDao::new);
   }
 
   /**
@@ -114,7 +114,7 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public ReceiptRepository createReceiptRepository() {
-    return new BlockchainDao(context);
+    return context.getDao(BlockchainDao.class, BlockchainDao::new);
   }
 
   /**
@@ -124,7 +124,7 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public ChainRepository createChainRepository() {
-    return new BlockchainDao(context);
+    return context.getDao(BlockchainDao.class, BlockchainDao::new);
   }
 
   /**
@@ -134,27 +134,27 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public MosaicRepository createMosaicRepository() {
-    return new MosaicsDao(context);
+    return context.getDao(MosaicsDao.class, MosaicsDao::new);
   }
 
   @Override
   public NamespaceRepository createNamespaceRepository() {
-    return new NamespaceDao(context);
+    return context.getDao(NamespaceDao.class, NamespaceDao::new);
   }
 
   @Override
   public NetworkRepository createNetworkRepository() {
-    return new NetworkDao(context);
+    return context.getDao(NetworkDao.class, NetworkDao::new);
   }
 
   @Override
   public NodeRepository createNodeRepository() {
-    throw new UnsupportedOperationException("Method not implemented");
+    return context.getDao(NodeDao.class, NodeDao::new);
   }
 
   @Override
   public TransactionRepository createTransactionRepository() {
-    return new TransactionDao(context);
+    return context.getDao(TransactionDao.class, TransactionDao::new);
   }
 
   /**
@@ -162,12 +162,12 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
    */
   @Override
   public TransactionStatusRepository createTransactionStatusRepository() {
-    return new TransactionDao(context);
+    return context.getDao(TransactionDao.class, TransactionDao::new);
   }
 
   @Override
   public MetadataRepository createMetadataRepository() {
-    return new MetadataDao(context);
+    return context.getDao(MetadataDao.class, MetadataDao::new);
   }
 
   @Override
@@ -182,7 +182,7 @@ public class DirectConnectRepositoryFactoryImpl implements RepositoryFactory {
 
   @Override
   public Listener createListener() {
-    return new ListenerImpl(context.getBrokerNodeContext());
+    return new ListenerImpl(context.getBrokerNodeContext(), context.getDataAccessContext());
   }
 
   @Override
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.auth;
+
+import javax.net.ssl.SSLSession;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** TLS handshake timings of the connections to the catapult nodes. */
+public class TlsHandshakeMetrics {
+  private static final AtomicLong handshakeCount = new AtomicLong();
+  private static final AtomicLong resumedCount = new AtomicLong();
+  private static final AtomicLong totalHandshakeNanos = new AtomicLong();
+  private static final AtomicLong maxHandshakeNanos = new AtomicLong();
+
+  private TlsHandshakeMetrics() {}
+
+  /**
+   * Records a completed handshake.
+   *
+   * @param durationInNanos Handshake duration in nanoseconds.
+   * @param session Negotiated session.
+   * @param startTimeMillis Wall clock time the handshake started at.
+   */
+  public static void record(
+      final long durationInNanos, final SSLSession session, final long startTimeMillis) {
+    handshakeCount.incrementAndGet();
+    /* A resumed session keeps the creation time of the handshake that created it. */
+    if (session.getCreationTime() < startTimeMillis) {
+      resumedCount.incrementAndGet();
+    }
+    totalHandshakeNanos.addAndGet(durationInNanos);
+    maxHandshakeNanos.accumulateAndGet(durationInNanos, Math::max);
+  }
+
+  /**
+   * Gets the number of completed handshakes.
+   *
+   * @return Handshake count.
+   */
+  public static long getHandshakeCount() {
+    return handshakeCount.get();
+  }
+
+  /**
+   * Gets the number of handshakes that resumed a cached session.
+   *
+   * @return Resumed handshake count.
+   */
+  public static long getResumedCount() {
+    return resumedCount.get();
+  }
+
+  /**
+   * Gets the average handshake duration.
+   *
+   * @return Average handshake duration in milliseconds.
+   */
+  public static double getAverageHandshakeMilliseconds() {
+    final long count = handshakeCount.get();
+    return count == 0
+        ? 0
+        : (double) totalHandshakeNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Gets the longest handshake duration.
+   *
+   * @return Longest handshake duration in milliseconds.
+   */
+  public static long getMaxHandshakeMilliseconds() {
+    return TimeUnit.NANOSECONDS.toMillis(maxHandshakeNanos.get());
+  }
+}
@@ -28,12 +28,34 @@ import javax.net.ssl.*;
 import java.io.File;
 import java.net.Socket;
 import java.security.KeyStore;
-import java.security.Provider;
 import java.security.Security;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 //import org.openjsse;
 
+/**
+ * TLS connections to a catapult node. The SSL context of a certificate set is built once and
+ * shared, so its session cache lets new connections to a known node resume the previous session
+ * instead of doing a full handshake.
+ */
 public class TlsSocket {
   private static final String[] protocols = new String[] {"TLSv1.2"};
+  /* Number of client sessions kept for resumption. */
+  private static final int SESSION_CACHE_SIZE = 256;
+  /* How long a client session can be resumed. */
+  private static final int SESSION_TIMEOUT_IN_SECONDS = 3600;
+  /* SSL contexts by certificate set. */
+  private static final Map<String, SSLContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
+  static {
+    if (Security.getProvider(BouncyCastleJsseProvider.PROVIDER_NAME) == null) {
+      Security.addProvider(new BouncyCastleJsseProvider());
+    }
+    if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+      Security.addProvider(new BouncyCastleProvider());
+    }
+    //Security.addProvider(new OpenJsse());
+  }
 
   private final File clientKeyFile;
   private final File clientCertificateFile;
@@ -43,10 +65,6 @@ public class TlsSocket {
       final File clientKeyFile,
       final File clientCertificateFile,
       final File remoteCertificateFile) {
-      Provider[] providers = Security.getProviders();
-    Security.addProvider(new BouncyCastleJsseProvider());
-    Security.addProvider(new BouncyCastleProvider());
-    //Security.addProvider(new OpenJsse());
     this.clientKeyFile = clientKeyFile;
     this.clientCertificateFile = clientCertificateFile;
     this.remoteCertificateFile = remoteCertificateFile;
@@ -68,14 +86,47 @@ public class TlsSocket {
   public Socket createSocket(final String hostName, final int port) {
     return ExceptionUtils.propagate(
         () -> {
-          final SSLContext sslContext = createSSLContext();
+          final SSLContext sslContext = getSSLContext();
           final SSLSocketFactory factory = sslContext.getSocketFactory();
           final SSLSocket socket = (SSLSocket) factory.createSocket(hostName, port);
+          final long startTime = System.nanoTime();
+          final long startTimeMillis = System.currentTimeMillis();
           socket.startHandshake();
+          TlsHandshakeMetrics.record(
+              System.nanoTime() - startTime, socket.getSession(), startTimeMillis);
           return socket;
         });
   }
 
+  /**
+   * Creates a client TLS engine for a non-blocking connection.
+   *
+   * @param hostName Host name.
+   * @param port Port.
+   * @return TLS engine in client mode.
+   */
+  public SSLEngine createEngine(final String hostName, final int port) {
+    final SSLEngine engine = getSSLContext().createSSLEngine(hostName, port);
+    engine.setUseClientMode(true);
+    engine.setEnabledProtocols(protocols);
+    return engine;
+  }
+
+  /* Keyed by the files and their modification times, so renewed certificates are loaded. */
+  private SSLContext getSSLContext() {
+    final String key =
+        getFileKey(clientKeyFile)
+            + "|"
+            + getFileKey(clientCertificateFile)
+            + "|"
+            + getFileKey(remoteCertificateFile);
+    return SSL_CONTEXTS.computeIfAbsent(key, k -> createSSLContext());
+  }
+
+  private static String getFileKey(final File file) {
+    return file.getAbsolutePath() + "@" + file.lastModified();
+  }
+
   private SSLContext createSSLContext() {
     return ExceptionUtils.propagate(
         () -> {
@@ -97,6 +148,9 @@ public class TlsSocket {
           // Initialize SSLContext
           SSLContext sslContext = SSLContext.getInstance(protocols[0], providerName);
           sslContext.init(km, tm, null);
+          final SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+          sessionContext.setSessionCacheSize(SESSION_CACHE_SIZE);
+          sessionContext.setSessionTimeout(SESSION_TIMEOUT_IN_SECONDS);
           return sslContext;
         });
   }
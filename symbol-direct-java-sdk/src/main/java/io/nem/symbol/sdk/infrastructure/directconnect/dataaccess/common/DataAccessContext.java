@@ -21,6 +21,11 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common;
 
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.CatapultMongoDbClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 /** Catapult data access context. */
 public class DataAccessContext {
   /* Default mongo database port. */
@@ -29,6 +34,10 @@ public class DataAccessContext {
   private static final String HOST_NAME = "localhost";
   /* Database timeout. */
   private static final int DATABASE_TIMEOUT_IN_SECONDS = 0;
+  /* Lookup cache size, zero disables the cache. */
+  private static final int LOOKUP_CACHE_SIZE = 0;
+  /* Lookup cache time to live. */
+  private static final int LOOKUP_CACHE_TTL_IN_SECONDS = 60;
 
   /* Host name. */
   private final String hostName;
@@ -36,8 +45,16 @@ public class DataAccessContext {
   private final int mongodbPort;
   /* Database timeout in seconds. */
   private final int databaseTimeoutInSeconds;
+  /* Database driver. */
+  private final DatabaseDriver databaseDriver;
+  /* Maximum number of entries in each lookup cache. */
+  private final int lookupCacheSize;
+  /* Lookup cache time to live in seconds. */
+  private final int lookupCacheTtlInSeconds;
 
   private final CatapultMongoDbClient catapultMongoDbClient;
+  /* Collections shared by all the users of this context. */
+  private final Map<Class<?>, Object> collections = new ConcurrentHashMap<>();
 
   /** Constructor - Use all the default values for the database on local host. */
   public DataAccessContext() {
@@ -62,9 +79,56 @@ public class DataAccessContext {
    */
   public DataAccessContext(
       final String hostName, final int mongodbPort, final int databaseTimeoutInSeconds) {
+    this(hostName, mongodbPort, databaseTimeoutInSeconds, DatabaseDriver.SYNC);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param hostName Host name.
+   * @param mongodbPort Mongo database port..
+   * @param databaseTimeoutInSeconds Database timeout in seconds.
+   * @param databaseDriver Database driver.
+   */
+  public DataAccessContext(
+      final String hostName,
+      final int mongodbPort,
+      final int databaseTimeoutInSeconds,
+      final DatabaseDriver databaseDriver) {
+    this(
+        hostName,
+        mongodbPort,
+        databaseTimeoutInSeconds,
+        databaseDriver,
+        LOOKUP_CACHE_SIZE,
+        LOOKUP_CACHE_TTL_IN_SECONDS);
+  }
+
+  /**
+   * Constructor. The account, mosaic, namespace and multisig lookups are cached when the cache
+   * size is positive. Entries are invalidated by the blocks and transactions seen by an open
+   * listener, and otherwise expire after the time to live.
+   *
+   * @param hostName Host name.
+   * @param mongodbPort Mongo database port..
+   * @param databaseTimeoutInSeconds Database timeout in seconds.
+   * @param databaseDriver Database driver.
+   * @param lookupCacheSize Maximum number of entries in each lookup cache, zero disables it.
+   * @param lookupCacheTtlInSeconds Lookup cache time to live in seconds.
+   */
+  public DataAccessContext(
+      final String hostName,
+      final int mongodbPort,
+      final int databaseTimeoutInSeconds,
+      final DatabaseDriver databaseDriver,
+      final int lookupCacheSize,
+      final int lookupCacheTtlInSeconds) {
     this.hostName = hostName;
     this.mongodbPort = mongodbPort;
     this.databaseTimeoutInSeconds = databaseTimeoutInSeconds;
+    this.databaseDriver = databaseDriver;
+    this.lookupCacheSize = lookupCacheSize;
+    this.lookupCacheTtlInSeconds = lookupCacheTtlInSeconds;
     this.catapultMongoDbClient = CatapultMongoDbClient.create(hostName, mongodbPort);
   }
 
@@ -86,6 +150,27 @@ public class DataAccessContext {
     return catapultMongoDbClient;
   }
 
+  /**
+   * Gets the shared instance of a collection, creating it on first use. Collections are thread
+   * safe, so one instance per context is enough.
+   *
+   * @param collectionClass Collection class.
+   * @param factory Creates the collection for this context.
+   * @param <C> Collection type.
+   * @return Collection.
+   */
+  public <C> C getCollection(
+      final Class<C> collectionClass, final Function<DataAccessContext, C> factory) {
+    final Object collection = collections.get(collectionClass);
+    if (collection != null) {
+      return collectionClass.cast(collection);
+    }
+    /* Not computeIfAbsent: a collection may get other collections while it is created. */
+    final Object created = factory.apply(this);
+    final Object existing = collections.putIfAbsent(collectionClass, created);
+    return collectionClass.cast(existing == null ? created : existing);
+  }
+
   /**
    * Gets the database timeout in seconds.
    *
@@ -94,4 +179,33 @@ public class DataAccessContext {
   public int getDatabaseTimeoutInSeconds() {
     return databaseTimeoutInSeconds;
   }
+
+  /**
+   * Gets the database driver.
+   *
+   * @return Database driver.
+   */
+  public DatabaseDriver getDatabaseDriver() {
+    return databaseDriver;
+  }
+
+  /**
+   * Checks if the lookups are cached.
+   *
+   * @return True if the lookup cache is enabled.
+   */
+  public boolean isLookupCacheEnabled() {
+    return lookupCacheSize > 0;
+  }
+
+  /**
+   * Creates a lookup cache with the settings of this context.
+   *
+   * @param <K> Key type.
+   * @param <V> Value type.
+   * @return Lookup cache.
+   */
+  public <K, V> LookupCache<K, V> createLookupCache() {
+    return new LookupCache<>(lookupCacheSize, lookupCacheTtlInSeconds);
+  }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common;
+
+import io.reactivex.Maybe;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache for lookups by key. Entries are evicted least recently used first
+ * and expire after a time to live. Only found values are cached, so a lookup that waits for a
+ * value to appear is never short-circuited.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public class LookupCache<K, V> {
+  /* Maximum number of entries, zero disables the cache. */
+  private final int maxSize;
+  /* Time to live of an entry. */
+  private final long timeToLiveInNanos;
+  /* Entries in access order. */
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+  private final AtomicLong invalidationCount = new AtomicLong();
+  /* Bumped on every invalidation, so a load that raced with one is not cached. */
+  private long generation;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize Maximum number of entries, zero disables the cache.
+   * @param timeToLiveInSeconds Time to live of an entry in seconds.
+   */
+  public LookupCache(final int maxSize, final int timeToLiveInSeconds) {
+    this.maxSize = maxSize;
+    this.timeToLiveInNanos = TimeUnit.SECONDS.toNanos(timeToLiveInSeconds);
+  }
+
+  /**
+   * Gets a value, loading it on a miss.
+   *
+   * @param key Key.
+   * @param loader Loads the value from the database.
+   * @return Value if found.
+   */
+  public Optional<V> get(final K key, final Supplier<Optional<V>> loader) {
+    final Optional<V> cached = getIfPresent(key);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    final long loadGeneration = getGeneration();
+    final Optional<V> value = loader.get();
+    value.ifPresent(found -> put(key, found, loadGeneration));
+    return value;
+  }
+
+  /**
+   * Gets a value, loading it asynchronously on a miss.
+   *
+   * @param key Key.
+   * @param loader Loads the value from the database.
+   * @return Value, empty if not found.
+   */
+  public Maybe<V> getAsync(final K key, final Function<K, Maybe<V>> loader) {
+    return Maybe.defer(
+        () -> {
+          final Optional<V> cached = getIfPresent(key);
+          if (cached.isPresent()) {
+            return Maybe.just(cached.get());
+          }
+          final long loadGeneration = getGeneration();
+          return loader.apply(key).doOnSuccess(found -> put(key, found, loadGeneration));
+        });
+  }
+
+  /**
+   * Removes the entry of a key.
+   *
+   * @param key Key.
+   */
+  public synchronized void invalidate(final K key) {
+    generation++;
+    if (entries.remove(key) != null) {
+      invalidationCount.incrementAndGet();
+    }
+  }
+
+  /** Removes all the entries. */
+  public synchronized void invalidateAll() {
+    generation++;
+    invalidationCount.addAndGet(entries.size());
+    entries.clear();
+  }
+
+  /**
+   * Stores a value.
+   *
+   * @param key Key.
+   * @param value Value.
+   */
+  public void put(final K key, final V value) {
+    put(key, value, getGeneration());
+  }
+
+  /**
+   * Gets a value if it is cached.
+   *
+   * @param key Key.
+   * @return Value if cached.
+   */
+  public synchronized Optional<V> getIfPresent(final K key) {
+    final Entry<V> entry = entries.get(key);
+    if (entry != null) {
+      if (System.nanoTime() - entry.createdAt < timeToLiveInNanos) {
+        hitCount.incrementAndGet();
+        return Optional.of(entry.value);
+      }
+      entries.remove(key);
+      evictionCount.incrementAndGet();
+    }
+    missCount.incrementAndGet();
+    return Optional.empty();
+  }
+
+  private synchronized long getGeneration() {
+    return generation;
+  }
+
+  private synchronized void put(final K key, final V value, final long loadGeneration) {
+    if (maxSize <= 0 || loadGeneration != generation) {
+      return;
+    }
+    entries.put(key, new Entry<>(value, System.nanoTime()));
+    final Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+    while (entries.size() > maxSize) {
+      eldest.next();
+      eldest.remove();
+      evictionCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Gets the number of entries.
+   *
+   * @return Cache size.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the number of lookups answered from the cache.
+   *
+   * @return Hit count.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Gets the number of lookups that went to the database.
+   *
+   * @return Miss count.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Gets the number of entries removed for size or age.
+   *
+   * @return Eviction count.
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * Gets the number of entries removed by change notifications.
+   *
+   * @return Invalidation count.
+   */
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  /** Cached value. */
+  private static class Entry<V> {
+    private final V value;
+    private final long createdAt;
+
+    Entry(final V value, final long createdAt) {
+      this.value = value;
+      this.createdAt = createdAt;
+    }
+  }
+}
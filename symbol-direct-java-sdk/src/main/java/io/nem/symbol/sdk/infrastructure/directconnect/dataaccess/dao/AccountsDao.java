@@ -36,6 +36,8 @@ import java.util.List;
 public class AccountsDao implements AccountRepository {
   /* Catapult context. */
   private final CatapultContext catapultContext;
+  /* Accounts collection. */
+  private final AccountsCollection accountsCollection;
 
   /**
    * Constructor.
@@ -44,6 +46,10 @@ public class AccountsDao implements AccountRepository {
    */
   public AccountsDao(final CatapultContext context) {
     this.catapultContext = context;
+    accountsCollection =
+        context
+            .getDataAccessContext()
+            .getCollection(AccountsCollection.class, AccountsCollection::new);
   }
 
   /**
@@ -54,11 +60,10 @@ public class AccountsDao implements AccountRepository {
    */
   @Override
   public Observable<AccountInfo> getAccountInfo(final Address address) {
-    return Observable.fromCallable(
-        () ->
-            new AccountsCollection(catapultContext.getDataAccessContext())
-                .findByAddress(MapperUtils.fromAddressToByteBuffer(address).array())
-                .get());
+    return accountsCollection
+        .findByAddressAsync(MapperUtils.fromAddressToByteBuffer(address).array())
+        .toSingle()
+        .toObservable();
   }
 
   /**
@@ -37,7 +37,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -46,6 +45,10 @@ import java.util.function.Function;
 public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptRepository {
     /* Catapult context. */
     private final CatapultContext catapultContext;
+    /* Blocks collection. */
+    private final BlocksCollection blocksCollection;
+    /* Chain statistic collection. */
+    private final ChainStatisticCollection chainStatisticCollection;
 
     /**
      * Constructor.
@@ -54,20 +57,32 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      */
     public BlockchainDao(final CatapultContext context) {
         this.catapultContext = context;
+        blocksCollection =
+                context.getDataAccessContext()
+                        .getCollection(BlocksCollection.class, BlocksCollection::new);
+        chainStatisticCollection =
+                context.getDataAccessContext()
+                        .getCollection(ChainStatisticCollection.class, ChainStatisticCollection::new);
     }
 
-    private MerkleProofInfo getMerkleProofInfo(
+    private Observable<MerkleProofInfo> getMerkleProofInfo(
             final BigInteger height,
             final String hash,
             final Function<FullBlockInfo, List<String>> getMerkleTree,
             final Function<FullBlockInfo, Integer> getNumberOfLeafs) {
-        final FullBlockInfo fullBlockInfo =
-                new BlocksCollection(catapultContext.getDataAccessContext()).find(height.longValue()).get();
-        final Integer numOfLeafs = getNumberOfLeafs.apply(fullBlockInfo);
-        Validate.isTrue(numOfLeafs > 0, "No elements was found in the block.");
-        final List<String> merkleTreeList = getMerkleTree.apply(fullBlockInfo);
-        final MerkleTree merkleTree = new MerkleTree();
-        return new MerkleProofInfo(merkleTree.buildAuditPath(hash, merkleTreeList));
+        return blocksCollection
+                .findAsync(height.longValue())
+                .toSingle()
+                .map(
+                        fullBlockInfo -> {
+                            final Integer numOfLeafs = getNumberOfLeafs.apply(fullBlockInfo);
+                            Validate.isTrue(numOfLeafs > 0, "No elements was found in the block.");
+                            final List<String> merkleTreeList = getMerkleTree.apply(fullBlockInfo);
+                            final MerkleTree merkleTree = new MerkleTree();
+                            return new MerkleProofInfo(
+                                    merkleTree.buildAuditPath(hash, merkleTreeList));
+                        })
+                .toObservable();
     }
 
     /**
@@ -78,12 +93,11 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      */
     @Override
     public Observable<BlockInfo> getBlockByHeight(final BigInteger height) {
-        return Observable.fromCallable(
-                () ->
-                        getBlockInfo(
-                                new BlocksCollection(catapultContext.getDataAccessContext())
-                                        .find(height.longValue())
-                                        .get()));
+        return blocksCollection
+                .findAsync(height.longValue())
+                .map(this::getBlockInfo)
+                .toSingle()
+                .toObservable();
     }
 
     /**
@@ -93,13 +107,11 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      */
     @Override
     public Observable<MerkleProofInfo> getMerkleReceipts(BigInteger height, String hash) {
-        return Observable.fromCallable(
-                () ->
-                        getMerkleProofInfo(
-                                height,
-                                hash,
-                                fullBlockInfo -> fullBlockInfo.getStatementMerkleTree(),
-                                fullBlockInfo -> fullBlockInfo.getNumStatements()));
+        return getMerkleProofInfo(
+                height,
+                hash,
+                fullBlockInfo -> fullBlockInfo.getStatementMerkleTree(),
+                fullBlockInfo -> fullBlockInfo.getNumStatements());
     }
 
     /**
@@ -115,13 +127,11 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      */
     @Override
     public Observable<MerkleProofInfo> getMerkleTransaction(BigInteger height, String hash) {
-        return Observable.fromCallable(
-                () ->
-                        getMerkleProofInfo(
-                                height,
-                                hash,
-                                fullBlockInfo -> fullBlockInfo.getTransactionMerkleTree(),
-                                fullBlockInfo -> fullBlockInfo.getNumTransactions()));
+        return getMerkleProofInfo(
+                height,
+                hash,
+                fullBlockInfo -> fullBlockInfo.getTransactionMerkleTree(),
+                fullBlockInfo -> fullBlockInfo.getNumTransactions());
     }
 
     /**
@@ -131,11 +141,10 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      */
     @Override
     public Observable<BigInteger> getBlockchainHeight() {
-        return Observable.fromCallable(
-                () ->
-                        new ChainStatisticCollection(catapultContext.getDataAccessContext())
-                                .get()
-                                .getNumBlocks());
+        return chainStatisticCollection
+                .getAsync()
+                .map(ChainStatisticInfo::getNumBlocks)
+                .toObservable();
     }
 
     /**
@@ -154,45 +163,19 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      * @return Score of the blockchain.
      */
     public Observable<BigInteger> getBlockchainScore() {
-        return Observable.fromCallable(
-                () -> {
-                    final ChainStatisticInfo chainStatisticInfo =
-                            new ChainStatisticCollection(catapultContext.getDataAccessContext()).get();
-                    return chainStatisticInfo
-                            .getScoreHigh()
-                            .shiftLeft(64 /*sizeof(long)*/)
-                            .add(chainStatisticInfo.getScoreLow());
-                });
+        return chainStatisticCollection
+                .getAsync()
+                .map(
+                        chainStatisticInfo ->
+                                chainStatisticInfo
+                                        .getScoreHigh()
+                                        .shiftLeft(64 /*sizeof(long)*/)
+                                        .add(chainStatisticInfo.getScoreLow()))
+                .toObservable();
     }
 
     private BlockInfo getBlockInfo(final FullBlockInfo fullBlockInfo) {
-        return new BlockInfo(
-                fullBlockInfo.getRecordId(),
-                fullBlockInfo.getSize(),
-                fullBlockInfo.getHash(),
-                fullBlockInfo.getGenerationHash(),
-                fullBlockInfo.getTotalFee(),
-                fullBlockInfo.getSubCacheMerkleRoots(),
-                fullBlockInfo.getNumTransactions(),
-                Optional.of(fullBlockInfo.getNumStatements()),
-                fullBlockInfo.getSubCacheMerkleRoots(),
-                fullBlockInfo.getSignature(),
-                fullBlockInfo.getSignerPublicAccount(),
-                fullBlockInfo.getNetworkType(),
-                fullBlockInfo.getVersion(),
-                fullBlockInfo.getType(),
-                fullBlockInfo.getHeight(),
-                fullBlockInfo.getTimestamp(),
-                fullBlockInfo.getDifficulty(),
-                fullBlockInfo.getFeeMultiplier(),
-                fullBlockInfo.getPreviousBlockHash(),
-                fullBlockInfo.getBlockTransactionsHash(),
-                fullBlockInfo.getBlockReceiptsHash(),
-                fullBlockInfo.getStateHash(),
-                fullBlockInfo.getProofGamma(),
-                fullBlockInfo.getProofScalar(),
-                fullBlockInfo.getProofVerificationHash(),
-                fullBlockInfo.getBeneficiaryAddress());
+        return fullBlockInfo.toBlockInfo();
     }
 
     /**
@@ -203,7 +186,18 @@ public class BlockchainDao implements BlockRepository, ChainRepository, ReceiptR
      */
     @Override
     public Observable<Page<BlockInfo>> search(BlockSearchCriteria criteria) {
-        return null;
+        return Observable.fromCallable(
+                () -> {
+                    final Page<FullBlockInfo> page = blocksCollection.search(criteria);
+                    final List<BlockInfo> blockInfos = new ArrayList<>(page.getData().size());
+                    page.getData().forEach(fullBlockInfo -> blockInfos.add(getBlockInfo(fullBlockInfo)));
+                    return new Page<>(
+                            blockInfos,
+                            page.getPageNumber(),
+                            page.getPageSize(),
+                            page.getTotalEntries(),
+                            page.getTotalPages());
+                });
     }
 
     /**
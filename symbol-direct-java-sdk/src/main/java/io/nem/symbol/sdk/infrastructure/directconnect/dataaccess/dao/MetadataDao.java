@@ -28,7 +28,10 @@ public class MetadataDao implements MetadataRepository {
    */
   public MetadataDao(final CatapultContext context) {
     this.catapultContext = context;
-    metadataCollection = new MetadataCollection(catapultContext.getDataAccessContext());
+    metadataCollection =
+        context
+            .getDataAccessContext()
+            .getCollection(MetadataCollection.class, MetadataCollection::new);
   }
 
   private Metadata getMetadataOrThrow(
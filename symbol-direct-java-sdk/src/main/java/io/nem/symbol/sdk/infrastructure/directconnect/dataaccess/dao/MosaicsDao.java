@@ -36,6 +36,8 @@ import java.util.List;
 public class MosaicsDao implements MosaicRepository {
   /* Catapult context. */
   private final CatapultContext catapultContext;
+  /* Mosaics collection. */
+  private final MosaicsCollection mosaicsCollection;
 
   /**
    * Constructor.
@@ -44,6 +46,10 @@ public class MosaicsDao implements MosaicRepository {
    */
   public MosaicsDao(final CatapultContext context) {
     this.catapultContext = context;
+    mosaicsCollection =
+        context
+            .getDataAccessContext()
+            .getCollection(MosaicsCollection.class, MosaicsCollection::new);
   }
 
   /**
@@ -54,11 +60,10 @@ public class MosaicsDao implements MosaicRepository {
    */
   @Override
   public Observable<MosaicInfo> getMosaic(final MosaicId mosaicId) {
-    return Observable.fromCallable(
-        () ->
-            new MosaicsCollection(catapultContext.getDataAccessContext())
-                .find(mosaicId.getIdAsLong())
-                .get());
+    return mosaicsCollection
+        .findAsync(mosaicId.getIdAsLong())
+        .toSingle()
+        .toObservable();
   }
 
   /**
@@ -32,6 +32,8 @@ import io.reactivex.Observable;
 /** Multisig dao repository. */
 public class MultisigDao implements MultisigRepository {
   private final CatapultContext catapultContext;
+  /* Multisigs collection. */
+  private final MultisigsCollection multisigsCollection;
 
   /**
    * Constructor.
@@ -40,6 +42,10 @@ public class MultisigDao implements MultisigRepository {
    */
   public MultisigDao(final CatapultContext context) {
     this.catapultContext = context;
+    multisigsCollection =
+        context
+            .getDataAccessContext()
+            .getCollection(MultisigsCollection.class, MultisigsCollection::new);
   }
 
   /**
@@ -52,7 +58,7 @@ public class MultisigDao implements MultisigRepository {
   public Observable<MultisigAccountInfo> getMultisigAccountInfo(final Address address) {
     return Observable.fromCallable(
         () ->
-            new MultisigsCollection(catapultContext.getDataAccessContext())
+            multisigsCollection
                 .findByAddress(MapperUtils.fromAddressToByteBuffer(address).array())
                 .get());
   }
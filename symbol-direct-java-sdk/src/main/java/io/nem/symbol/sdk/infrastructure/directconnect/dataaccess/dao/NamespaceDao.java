@@ -45,6 +45,8 @@ import java.util.List;
 public class NamespaceDao implements NamespaceRepository {
     /* Catapult context. */
     private final CatapultContext catapultContext;
+    /* Namespaces collection. */
+    private final NamespacesCollection namespacesCollection;
 
     /**
      * Constructor.
@@ -53,13 +55,16 @@ public class NamespaceDao implements NamespaceRepository {
      */
     public NamespaceDao(final CatapultContext context) {
         this.catapultContext = context;
+        namespacesCollection =
+                context.getDataAccessContext()
+                        .getCollection(NamespacesCollection.class, NamespacesCollection::new);
     }
 
     @Override
     public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
         return Observable.fromCallable(
                 () ->
-                        new NamespacesCollection(catapultContext.getDataAccessContext())
+                        namespacesCollection
                                 .findById(namespaceId.getId().longValue())
                                 .get());
     }
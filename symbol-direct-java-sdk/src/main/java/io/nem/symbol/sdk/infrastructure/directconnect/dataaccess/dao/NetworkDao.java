@@ -25,6 +25,7 @@ import io.nem.symbol.sdk.infrastructure.common.CatapultContext;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.BlocksCollection;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.FullBlockInfo;
 import io.nem.symbol.sdk.model.network.*;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 import java.math.BigInteger;
@@ -37,6 +38,8 @@ public class NetworkDao implements NetworkRepository {
   private static final Map<String, NetworkType> clientNetworkTypeMap = new HashMap<>();
   /* Catapult context. */
   private final CatapultContext catapultContext;
+  /* Blocks collection. */
+  private final BlocksCollection blocksCollection;
 
   /**
    * Constructor.
@@ -45,6 +48,8 @@ public class NetworkDao implements NetworkRepository {
    */
   public NetworkDao(final CatapultContext context) {
     this.catapultContext = context;
+    blocksCollection =
+        context.getDataAccessContext().getCollection(BlocksCollection.class, BlocksCollection::new);
   }
 
   /**
@@ -60,7 +65,7 @@ public class NetworkDao implements NetworkRepository {
             /* Get the network information from the first block */
             clientNetworkTypeMap.put(
                 catapultContext.getDataAccessContext().getHostName(),
-                new BlockchainDao(catapultContext)
+                getBlockchainDao()
                     .getBlockByHeight(BigInteger.valueOf(1))
                     .toFuture()
                     .get()
@@ -76,10 +81,10 @@ public class NetworkDao implements NetworkRepository {
         () -> {
           final BigInteger numberOfBlocksForTransactionFee = BigInteger.valueOf(300);
           final List<Long> feeMultipliers =
-              getLastNumberOfBlocks(numberOfBlocksForTransactionFee).stream()
+              getLastNumberOfBlocks(numberOfBlocksForTransactionFee)
                   .map(FullBlockInfo::getFeeMultiplier)
-                  .collect(Collectors.toList());
-          Collections.sort(feeMultipliers);
+                  .toSortedList()
+                  .blockingGet();
           final LongSummaryStatistics stats =
               feeMultipliers.stream().mapToLong(x -> x).summaryStatistics();
           final Long medianFeeMultiplier = feeMultipliers.get(feeMultipliers.size() / 2);
@@ -131,27 +136,30 @@ public class NetworkDao implements NetworkRepository {
         toBigInteger(networkConfiguration.getChain().getMaxDifficultyBlocks());
     final BigInteger defaultFeeMultiplier =
         toBigInteger(networkConfiguration.getChain().getDefaultDynamicFeeMultiplier());
-    final List<FullBlockInfo> blockInfos = getLastNumberOfBlocks(maxDifficultyBlocks);
-    if (blockInfos.size() < maxDifficultyBlocks.longValue()) {
+    final List<Long> feeMultipliers =
+        getLastNumberOfBlocks(maxDifficultyBlocks)
+            .map(FullBlockInfo::getFeeMultiplier)
+            .toList()
+            .blockingGet();
+    if (feeMultipliers.size() < maxDifficultyBlocks.longValue()) {
       return defaultFeeMultiplier;
     }
 
     final List<Long> listOfFeeMultipliers =
-        blockInfos.stream()
-            .filter(f -> f.getFeeMultiplier().longValue() != 0)
-            .map(FullBlockInfo::getFeeMultiplier)
-            .collect(Collectors.toList());
+        feeMultipliers.stream().filter(f -> f != 0).collect(Collectors.toList());
     final int median = maxDifficultyBlocks.intValue() / 2;
     return listOfFeeMultipliers.size() < median
         ? defaultFeeMultiplier
         : BigInteger.valueOf(listOfFeeMultipliers.get(median));
   }
 
-  private List<FullBlockInfo> getLastNumberOfBlocks(final BigInteger numberOfBlocks) {
-    final BigInteger blockchainHeight =
-        new BlockchainDao(catapultContext).getBlockchainHeight().blockingFirst();
-    return new BlocksCollection(catapultContext.getDataAccessContext())
-        .find(blockchainHeight.subtract(numberOfBlocks), blockchainHeight);
+  private Flowable<FullBlockInfo> getLastNumberOfBlocks(final BigInteger numberOfBlocks) {
+    final BigInteger blockchainHeight = getBlockchainDao().getBlockchainHeight().blockingFirst();
+    return blocksCollection.stream(blockchainHeight.subtract(numberOfBlocks), blockchainHeight);
+  }
+
+  private BlockchainDao getBlockchainDao() {
+    return catapultContext.getDao(BlockchainDao.class, BlockchainDao::new);
   }
 
   private Integer toInteger(final String value) {
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.dao;
+
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.infrastructure.common.CatapultContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.AccountsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.BlocksCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.TransactionsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.network.CatapultNodeContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.network.NodeConnection;
+import io.nem.symbol.sdk.infrastructure.directconnect.network.NodePingResult;
+import io.nem.symbol.sdk.model.node.NodeHealth;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.NodeStatus;
+import io.nem.symbol.sdk.model.node.NodeTime;
+import io.nem.symbol.sdk.model.node.ServerInfo;
+import io.nem.symbol.sdk.model.node.StorageInfo;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/** Node dao repository. Queries the api node over its authenticated connection. */
+public class NodeDao implements NodeRepository {
+  private final CatapultContext catapultContext;
+  /* Blocks collection. */
+  private final BlocksCollection blocksCollection;
+  /* Transactions collection. */
+  private final TransactionsCollection transactionsCollection;
+  /* Accounts collection. */
+  private final AccountsCollection accountsCollection;
+  /* Network epoch in unix time milliseconds, null until the network config is read. */
+  private volatile Long epochAdjustment;
+
+  /**
+   * Constructor.
+   *
+   * @param context Catapult context.
+   */
+  public NodeDao(final CatapultContext context) {
+    this.catapultContext = context;
+    final DataAccessContext dataAccessContext = context.getDataAccessContext();
+    blocksCollection =
+        dataAccessContext.getCollection(BlocksCollection.class, BlocksCollection::new);
+    transactionsCollection =
+        dataAccessContext.getCollection(TransactionsCollection.class, TransactionsCollection::new);
+    accountsCollection =
+        dataAccessContext.getCollection(AccountsCollection.class, AccountsCollection::new);
+  }
+
+  /**
+   * Gets the api node information.
+   *
+   * @return Node information.
+   */
+  @Override
+  public Observable<NodeInfo> getNodeInfo() {
+    return Observable.fromCallable(
+        () -> {
+          final String generationHashSeed = blocksCollection.find(1).get().getGenerationHash();
+          final CatapultNodeContext nodeContext = catapultContext.getApiNodeContext();
+          return nodeContext
+              .getConnectionManager()
+              .execute(
+                  socket ->
+                      new NodeConnection(socket, nodeContext.getNetworkTimeoutInMilliseconds())
+                          .getNodeInfo(generationHashSeed));
+        });
+  }
+
+  /**
+   * Gets the peers of the api node.
+   *
+   * @return Peer nodes information.
+   */
+  @Override
+  public Observable<List<NodeInfo>> getNodePeers() {
+    return Observable.fromCallable(
+        () -> {
+          final String generationHashSeed = blocksCollection.find(1).get().getGenerationHash();
+          final CatapultNodeContext nodeContext = catapultContext.getApiNodeContext();
+          return nodeContext
+              .getConnectionManager()
+              .execute(
+                  socket ->
+                      new NodeConnection(socket, nodeContext.getNetworkTimeoutInMilliseconds())
+                          .getNodePeers(generationHashSeed));
+        });
+  }
+
+  /**
+   * Gets the api node network time.
+   *
+   * @return Node time.
+   */
+  @Override
+  public Observable<NodeTime> getNodeTime() {
+    return Observable.fromCallable(() -> getNodeTime(catapultContext.getApiNodeContext()));
+  }
+
+  /**
+   * Gets the number of accounts, blocks and confirmed transactions stored in the database, as the
+   * rest gateway does.
+   *
+   * @return Storage information.
+   */
+  @Override
+  public Observable<StorageInfo> getNodeStorage() {
+    return Observable.fromCallable(
+        () ->
+            new StorageInfo(
+                accountsCollection.count(),
+                blocksCollection.count(),
+                transactionsCollection.count()));
+  }
+
+  /**
+   * Not available, server information describes the rest gateway.
+   *
+   * @return Observable failing with an unsupported operation error.
+   */
+  @Override
+  public Observable<ServerInfo> getServerInfo() {
+    return Observable.error(
+        new UnsupportedOperationException("Server information is not served by the node."));
+  }
+
+  /**
+   * Gets the api node and database health.
+   *
+   * @return Node health.
+   */
+  @Override
+  public Observable<NodeHealth> getNodeHealth() {
+    return Observable.fromCallable(
+        () -> {
+          final NodeStatus apiNodeStatus =
+              ping(catapultContext.getApiNodeContext()).isReachable()
+                  ? NodeStatus.UP
+                  : NodeStatus.DOWN;
+          NodeStatus databaseStatus;
+          try {
+            databaseStatus =
+                blocksCollection.find(1).isPresent() ? NodeStatus.UP : NodeStatus.DOWN;
+          } catch (final RuntimeException ex) {
+            databaseStatus = NodeStatus.DOWN;
+          }
+          return new NodeHealth(apiNodeStatus, databaseStatus);
+        });
+  }
+
+  /**
+   * Pings several nodes at the same time with time sync requests.
+   *
+   * @param nodeContexts Nodes to ping.
+   * @return Ping results in the order of the nodes.
+   */
+  public Observable<List<NodePingResult>> pingNodes(final List<CatapultNodeContext> nodeContexts) {
+    return Observable.fromIterable(nodeContexts)
+        .concatMapEager(
+            nodeContext ->
+                Observable.fromCallable(() -> ping(nodeContext)).subscribeOn(Schedulers.io()))
+        .toList()
+        .toObservable();
+  }
+
+  /**
+   * Pings a node with a time sync request. The clock offset assumes the request and response take
+   * the same time on the network.
+   *
+   * @param nodeContext Node to ping.
+   * @return Ping result, unreachable if the node did not answer.
+   */
+  public NodePingResult ping(final CatapultNodeContext nodeContext) {
+    final long startTime = System.nanoTime();
+    final long localSendTime = System.currentTimeMillis();
+    try {
+      final NodeTime nodeTime = getNodeTime(nodeContext);
+      final long localReceiveTime = System.currentTimeMillis();
+      final long roundTrip = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+      final Long clockOffset =
+          getEpochAdjustment()
+              .map(
+                  epoch ->
+                      (nodeTime.getReceiveTimeStamp().longValue()
+                              - (localSendTime - epoch)
+                              + nodeTime.getSendTimeStamp().longValue()
+                              - (localReceiveTime - epoch))
+                          / 2)
+              .orElse(null);
+      return NodePingResult.reachable(nodeContext, nodeTime, roundTrip, clockOffset);
+    } catch (final RuntimeException ex) {
+      final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+      return NodePingResult.unreachable(nodeContext, elapsed, ex);
+    }
+  }
+
+  private NodeTime getNodeTime(final CatapultNodeContext nodeContext) {
+    return nodeContext
+        .getConnectionManager()
+        .execute(
+            socket ->
+                new NodeConnection(socket, nodeContext.getNetworkTimeoutInMilliseconds())
+                    .getNodeTime());
+  }
+
+  /* A failed read is not kept, so the next ping reads the network config again. */
+  private Optional<Long> getEpochAdjustment() {
+    if (epochAdjustment == null) {
+      try {
+        epochAdjustment =
+            toMilliseconds(
+                catapultContext
+                    .getDao(NetworkDao.class, NetworkDao::new)
+                    .getNetworkProperties()
+                    .blockingFirst()
+                    .getNetwork()
+                    .getEpochAdjustment());
+      } catch (final RuntimeException ex) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(epochAdjustment);
+  }
+
+  /* Config durations are written like 1573430400s. */
+  private static long toMilliseconds(final String duration) {
+    final String value = duration.trim().replaceAll("'", "");
+    if (value.endsWith("ms")) {
+      return Long.parseLong(value.substring(0, value.length() - 2));
+    }
+    final long amount = Long.parseLong(value.substring(0, value.length() - 1));
+    switch (value.charAt(value.length() - 1)) {
+      case 's':
+        return TimeUnit.SECONDS.toMillis(amount);
+      case 'm':
+        return TimeUnit.MINUTES.toMillis(amount);
+      case 'h':
+        return TimeUnit.HOURS.toMillis(amount);
+      default:
+        throw new IllegalArgumentException("Unknown duration: " + duration);
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.api.TransactionStatusRepository;
 import io.nem.symbol.sdk.infrastructure.common.CatapultContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.RetryCommand;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.SearchableTransactionCollection;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.TransactionCurrentState;
@@ -34,8 +35,10 @@ import io.nem.symbol.sdk.model.transaction.*;
 import io.reactivex.Observable;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +48,8 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
   /* Catapult context. */
   private final CatapultContext catapultContext;
   private final Map<TransactionGroup, TransactionCollectionBase> transactionCollectionGroupMap;
+  /* Collections to check for a transaction state in lookup order. */
+  private final List<TransactionCurrentState> transactionCurrentStates;
 
   /**
    * Constructor.
@@ -53,26 +58,34 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
    */
   public TransactionDao(final CatapultContext context) {
     this.catapultContext = context;
+    final DataAccessContext dataAccessContext = context.getDataAccessContext();
+    final TransactionsCollection transactionsCollection =
+        dataAccessContext.getCollection(TransactionsCollection.class, TransactionsCollection::new);
+    final UnconfirmedTransactionsCollection unconfirmedTransactionsCollection =
+        dataAccessContext.getCollection(
+            UnconfirmedTransactionsCollection.class, UnconfirmedTransactionsCollection::new);
+    final PartialTransactionsCollection partialTransactionsCollection =
+        dataAccessContext.getCollection(
+            PartialTransactionsCollection.class, PartialTransactionsCollection::new);
     transactionCollectionGroupMap =
         Stream.of(
                 new Object[][] {
-                  {
-                    TransactionGroup.CONFIRMED,
-                    new TransactionsCollection(catapultContext.getDataAccessContext())
-                  },
-                  {
-                    TransactionGroup.UNCONFIRMED,
-                    new UnconfirmedTransactionsCollection(catapultContext.getDataAccessContext())
-                  },
-                  {
-                    TransactionGroup.PARTIAL,
-                    new PartialTransactionsCollection(catapultContext.getDataAccessContext())
-                  }
+                  {TransactionGroup.CONFIRMED, transactionsCollection},
+                  {TransactionGroup.UNCONFIRMED, unconfirmedTransactionsCollection},
+                  {TransactionGroup.PARTIAL, partialTransactionsCollection}
                 })
             .collect(
                 Collectors.toMap(
                     data -> (TransactionGroup) data[0],
                     data -> (TransactionCollectionBase) data[1]));
+    transactionCurrentStates =
+        Arrays.asList(
+            unconfirmedTransactionsCollection,
+            partialTransactionsCollection,
+            transactionsCollection,
+            dataAccessContext.getCollection(
+                TransactionCurrentStatusesCollection.class,
+                TransactionCurrentStatusesCollection::new));
   }
 
   private TransactionCollectionBase getCollection(TransactionGroup group) {
@@ -122,7 +135,8 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
   @Override
   public Observable<List<Transaction>> getTransactions(
       TransactionGroup group, List<String> transactionHashes) {
-    throw new UnsupportedOperationException("Method not implemented");
+    final SearchableTransactionCollection transactionCollection = getCollection(group);
+    return Observable.fromCallable(() -> transactionCollection.getTransactions(transactionHashes));
   }
 
   /**
@@ -135,12 +149,6 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
   public Observable<TransactionStatus> getTransactionStatus(final String transactionHash) {
     return Observable.fromCallable(
         () -> {
-          final List<TransactionCurrentState> transactionCurrentStates =
-              Arrays.asList(
-                  new UnconfirmedTransactionsCollection(catapultContext.getDataAccessContext()),
-                  new PartialTransactionsCollection(catapultContext.getDataAccessContext()),
-                  new TransactionsCollection(catapultContext.getDataAccessContext()),
-                  new TransactionCurrentStatusesCollection(catapultContext.getDataAccessContext()));
           final int maxRetries = 0;
           final int waitTimeInMilliseconds = 0;
           return new RetryCommand<TransactionStatus>(
@@ -170,7 +178,25 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
   @Override
   public Observable<List<TransactionStatus>> getTransactionStatuses(
       List<String> transactionHashes) {
-    throw new UnsupportedOperationException("Method not implemented");
+    return Observable.fromCallable(
+        () -> {
+          final Map<String, TransactionStatus> statuses = new HashMap<>();
+          List<String> remainingHashes = transactionHashes;
+          for (final TransactionCurrentState transactionCurrentState : transactionCurrentStates) {
+            if (remainingHashes.isEmpty()) {
+              break;
+            }
+            statuses.putAll(transactionCurrentState.getStatuses(remainingHashes));
+            remainingHashes =
+                remainingHashes.stream()
+                    .filter(hash -> !statuses.containsKey(hash.toUpperCase()))
+                    .collect(Collectors.toList());
+          }
+          return transactionHashes.stream()
+              .map(hash -> statuses.get(hash.toUpperCase()))
+              .filter(Objects::nonNull)
+              .collect(Collectors.toList());
+        });
   }
 
   /**
@@ -184,8 +210,9 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
       final SignedTransaction signedTransaction) {
     return Observable.fromCallable(
         () -> {
-          new TransactionConnection(catapultContext.getApiNodeContext().getAuthenticatedSocket())
-              .announce(signedTransaction);
+          catapultContext
+              .getAnnounceRouter()
+              .announce(socket -> new TransactionConnection(socket).announce(signedTransaction));
           return new TransactionAnnounceResponse("Success");
         });
   }
@@ -201,8 +228,11 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
       SignedTransaction signedTransaction) {
     return Observable.fromCallable(
         () -> {
-          new TransactionConnection(catapultContext.getApiNodeContext().getAuthenticatedSocket())
-              .announceAggregateBonded(signedTransaction);
+          catapultContext
+              .getAnnounceRouter()
+              .announce(
+                  socket ->
+                      new TransactionConnection(socket).announceAggregateBonded(signedTransaction));
           return new TransactionAnnounceResponse("Success");
         });
   }
@@ -218,8 +248,12 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
       CosignatureSignedTransaction cosignatureSignedTransaction) {
     return Observable.fromCallable(
         () -> {
-          new TransactionConnection(catapultContext.getApiNodeContext().getAuthenticatedSocket())
-              .announceAggregateBondedCosignature(cosignatureSignedTransaction);
+          catapultContext
+              .getAnnounceRouter()
+              .announce(
+                  socket ->
+                      new TransactionConnection(socket)
+                          .announceAggregateBondedCosignature(cosignatureSignedTransaction));
           return new TransactionAnnounceResponse("Success");
         });
   }
@@ -232,8 +266,8 @@ public class TransactionDao implements TransactionRepository, TransactionStatusR
    */
   @Override
   public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
-      final SearchableTransactionCollection transactionCollection = getCollection(criteria.getGroup());
-      //TODO: paging logic
-      return Observable.fromCallable(() -> new Page<>(transactionCollection.search(criteria), 1, 1, 1, 1));
+    final SearchableTransactionCollection transactionCollection =
+        getCollection(criteria.getGroup());
+    return Observable.fromCallable(() -> transactionCollection.search(criteria));
   }
 }
@@ -22,7 +22,9 @@ package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.commo
 
 import com.mongodb.MongoClient;
 import com.mongodb.client.MongoDatabase;
-import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.MongoClientFactory;;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.ChangeStreamNotifier;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.MongoClientFactory;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.ReactiveMongoClientFactory;
 
 /** Catapult Mongo database client. */
 public class CatapultMongoDbClient implements DatabaseClient<MongoDatabase> {
@@ -30,6 +32,12 @@ public class CatapultMongoDbClient implements DatabaseClient<MongoDatabase> {
   static final String DATABASE_NAME = "catapult";
   /* Mongodb client */
   final MongoClient mongoClient;
+  /* Mongodb server key. */
+  final String serverKey;
+  /* Mongodb server. */
+  final String host;
+  /* Mongodb port. */
+  final int port;
 
   /**
    * Constructor.
@@ -39,6 +47,9 @@ public class CatapultMongoDbClient implements DatabaseClient<MongoDatabase> {
    */
   private CatapultMongoDbClient(final String host, final int port) {
     mongoClient = MongoClientFactory.Create(host, port);
+    serverKey = host + port;
+    this.host = host;
+    this.port = port;
   }
 
   /**
@@ -61,4 +72,23 @@ public class CatapultMongoDbClient implements DatabaseClient<MongoDatabase> {
   public MongoDatabase getDatabase() {
     return mongoClient.getDatabase(DATABASE_NAME);
   }
+
+  /**
+   * Gets catapult Mongo database on the reactive streams driver.
+   *
+   * @return Reactive streams Mongo database.
+   */
+  public com.mongodb.reactivestreams.client.MongoDatabase getReactiveDatabase() {
+    return ReactiveMongoClientFactory.Create(host, port).getDatabase(DATABASE_NAME);
+  }
+
+  /**
+   * Gets the shared change stream notifier of a collection.
+   *
+   * @param collectionName Collection name.
+   * @return Change stream notifier.
+   */
+  public ChangeStreamNotifier getChangeStreamNotifier(final String collectionName) {
+    return ChangeStreamNotifier.get(serverKey, getDatabase().getCollection(collectionName));
+  }
 }
@@ -50,7 +50,7 @@ public interface SearchableTransactionCollection {
    * It searches entities of a type based on a criteria.
    *
    * @param criteria the criteria
-   * @return List of entities.
+   * @return a page of entities.
    */
-  List<Transaction> search(final TransactionSearchCriteria criteria);
+  Page<Transaction> search(final TransactionSearchCriteria criteria);
 }
@@ -22,6 +22,9 @@ package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.commo
 
 import io.nem.symbol.sdk.model.transaction.TransactionStatus;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /** Transaction state. */
@@ -34,6 +37,20 @@ public interface TransactionCurrentState {
    */
   Optional<TransactionStatus> getStatus(final String hash);
 
+  /**
+   * Gets the transaction statuses for a list of hashes.
+   *
+   * @param hashes Transaction hashes.
+   * @return Map of upper case transaction hash to status for the hashes found.
+   */
+  default Map<String, TransactionStatus> getStatuses(final List<String> hashes) {
+    final Map<String, TransactionStatus> statuses = new HashMap<>();
+    for (final String hash : hashes) {
+      getStatus(hash).ifPresent(status -> statuses.put(hash.toUpperCase(), status));
+    }
+    return statuses;
+  }
+
   /**
    * Returns transaction status group "failed", "unconfirmed", "confirmed", etc...
    *
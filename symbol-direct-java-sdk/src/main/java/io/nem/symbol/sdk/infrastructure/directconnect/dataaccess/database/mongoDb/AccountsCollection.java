@@ -20,9 +20,13 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.LookupCache;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.AccountInfoMapper;
 import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.reactivex.Maybe;
 
 import java.util.Optional;
 
@@ -30,6 +34,10 @@ import java.util.Optional;
 public class AccountsCollection {
   /* Catapult collection */
   private final CatapultCollection<AccountInfo, AccountInfoMapper> accountCollection;
+  /* Reactive collection, null when the sync driver is selected. */
+  private final ReactiveCatapultCollection<AccountInfo, AccountInfoMapper> reactiveCollection;
+  /* Accounts by address hex. */
+  private final LookupCache<String, AccountInfo> cache;
   /* Catapult context. */
   private final DataAccessContext context;
 
@@ -42,6 +50,12 @@ public class AccountsCollection {
     accountCollection =
         new CatapultCollection<>(
             context.getCatapultMongoDbClient(), "accounts", AccountInfoMapper::new);
+    reactiveCollection =
+        context.getDatabaseDriver() == DatabaseDriver.REACTIVE
+            ? new ReactiveCatapultCollection<>(
+                context.getCatapultMongoDbClient(), "accounts", AccountInfoMapper::new)
+            : null;
+    cache = context.createLookupCache();
     this.context = context;
   }
 
@@ -64,6 +78,57 @@ public class AccountsCollection {
    */
   public Optional<AccountInfo> findByAddress(final byte[] address, final int timeoutInSeconds) {
     final String keyName = "account.address";
-    return accountCollection.findOne(keyName, address, timeoutInSeconds);
+    return cache.get(
+        ConvertUtils.toHex(address),
+        () -> accountCollection.findOne(keyName, address, timeoutInSeconds));
+  }
+
+  /**
+   * Find an account by address without blocking when the reactive driver is selected.
+   *
+   * @param address Account address.
+   * @return Account information, empty if not found.
+   */
+  public Maybe<AccountInfo> findByAddressAsync(final byte[] address) {
+    if (reactiveCollection == null) {
+      return Maybe.fromCallable(() -> findByAddress(address).orElse(null));
+    }
+    return cache.getAsync(
+        ConvertUtils.toHex(address),
+        key ->
+            reactiveCollection.findOne(
+                "account.address", address, context.getDatabaseTimeoutInSeconds()));
+  }
+
+  /**
+   * Gets the number of accounts.
+   *
+   * @return Account count.
+   */
+  public long count() {
+    return accountCollection.count();
+  }
+
+  /**
+   * Removes an account from the lookup cache.
+   *
+   * @param address Account address.
+   */
+  public void invalidate(final byte[] address) {
+    cache.invalidate(ConvertUtils.toHex(address));
+  }
+
+  /** Removes all the accounts from the lookup cache. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Gets the lookup cache.
+   *
+   * @return Lookup cache.
+   */
+  public LookupCache<String, AccountInfo> getLookupCache() {
+    return cache;
   }
 }
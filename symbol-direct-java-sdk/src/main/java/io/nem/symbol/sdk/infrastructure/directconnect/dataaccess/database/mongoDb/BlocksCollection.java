@@ -21,17 +21,23 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
 import io.nem.symbol.sdk.api.BlockSearchCriteria;
+import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.BlocksInfoMapper;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.MapperUtils;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.bson.types.Binary;
+import org.bson.types.ObjectId;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -42,6 +48,8 @@ import java.util.Optional;
 public class BlocksCollection {
   /** Catapult collection */
   private final CatapultCollection<FullBlockInfo, BlocksInfoMapper> catapultCollection;
+  /* Reactive collection, null when the sync driver is selected. */
+  private final ReactiveCatapultCollection<FullBlockInfo, BlocksInfoMapper> reactiveCollection;
   /* Catapult context. */
   private final DataAccessContext context;
 
@@ -54,9 +62,23 @@ public class BlocksCollection {
     catapultCollection =
         new CatapultCollection<>(
             context.getCatapultMongoDbClient(), "blocks", BlocksInfoMapper::new);
+    reactiveCollection =
+        context.getDatabaseDriver() == DatabaseDriver.REACTIVE
+            ? new ReactiveCatapultCollection<>(
+                context.getCatapultMongoDbClient(), "blocks", BlocksInfoMapper::new)
+            : null;
     this.context = context;
   }
 
+  /**
+   * Gets the number of blocks.
+   *
+   * @return Block count.
+   */
+  public long count() {
+    return catapultCollection.count();
+  }
+
   /**
    * Gets blocks info.
    *
@@ -68,6 +90,20 @@ public class BlocksCollection {
     return catapultCollection.findOne(keyName, height, context.getDatabaseTimeoutInSeconds());
   }
 
+  /**
+   * Gets blocks info without blocking on the query when the reactive driver is selected.
+   *
+   * @param height Block height.
+   * @return Block info, empty if not found.
+   */
+  public Maybe<FullBlockInfo> findAsync(final long height) {
+    if (reactiveCollection == null) {
+      return Maybe.fromCallable(() -> find(height).orElse(null));
+    }
+    return reactiveCollection.findOne(
+        "block.height", height, context.getDatabaseTimeoutInSeconds());
+  }
+
   /**
    * Gets blocks info range.
    *
@@ -86,6 +122,26 @@ public class BlocksCollection {
     return catapultCollection.ConvertResult(results);
   }
 
+  /**
+   * Streams the blocks in a height range in ascending height order.
+   *
+   * @param startHeight Start block height.
+   * @param endHeight End block height.
+   * @return Flowable of block info.
+   */
+  public Flowable<FullBlockInfo> stream(final BigInteger startHeight, final BigInteger endHeight) {
+    final String keyName = "block.height";
+    final Bson blockRangeFilters =
+        Filters.and(
+            Filters.gte(keyName, startHeight.longValue()),
+            Filters.lt(keyName, endHeight.longValue()));
+    return catapultCollection.findFlowable(
+        blockRangeFilters,
+        null,
+        Sorts.ascending(keyName),
+        CatapultCollection.DEFAULT_BATCH_SIZE);
+  }
+
   private byte[] getAddressBytes(final Address address) {
     return MapperUtils.fromAddressToByteBuffer(address).array();
   }
@@ -116,9 +172,10 @@ public class BlocksCollection {
    * @param criteria the criteria
    * @return a page of entities.
    */
-  public List<FullBlockInfo> search(final BlockSearchCriteria criteria) {
+  public Page<FullBlockInfo> search(final BlockSearchCriteria criteria) {
     final Bson filters = toSearchCriteria(criteria);
-
-    return catapultCollection.findR(filters, context.getDatabaseTimeoutInSeconds());
+    final ObjectId offset = criteria.getOffset() == null ? null : new ObjectId(criteria.getOffset());
+    return catapultCollection.findPage(
+        filters, "block.height", offset, criteria, context.getDatabaseTimeoutInSeconds());
   }
 }
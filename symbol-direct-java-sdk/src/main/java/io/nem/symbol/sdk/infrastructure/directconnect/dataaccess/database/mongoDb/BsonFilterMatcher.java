@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Checks a document against a query filter on the client. Only the filter shapes used by the dao
+ * queries are evaluated, any other operator is assumed to match. A caller may then query more
+ * often than needed, but never misses a change.
+ */
+final class BsonFilterMatcher {
+
+  private BsonFilterMatcher() {}
+
+  /**
+   * Checks if a document may match a filter.
+   *
+   * @param filter Query filter.
+   * @param document Document.
+   * @return False only if the document does not match the filter.
+   */
+  static boolean matches(final BsonDocument filter, final BsonDocument document) {
+    for (final Map.Entry<String, BsonValue> clause : filter.entrySet()) {
+      if (!matchesClause(clause.getKey(), clause.getValue(), document)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matchesClause(
+      final String key, final BsonValue value, final BsonDocument document) {
+    switch (key) {
+      case "$and":
+        for (final BsonValue filter : value.asArray()) {
+          if (!matches(filter.asDocument(), document)) {
+            return false;
+          }
+        }
+        return true;
+      case "$or":
+        for (final BsonValue filter : value.asArray()) {
+          if (matches(filter.asDocument(), document)) {
+            return true;
+          }
+        }
+        return false;
+      default:
+        return key.startsWith("$") || matchesField(resolve(document, key), value);
+    }
+  }
+
+  private static boolean matchesField(final List<BsonValue> values, final BsonValue condition) {
+    if (condition.isRegularExpression()) {
+      return true;
+    }
+    if (!isOperatorDocument(condition)) {
+      return containsEqual(values, condition);
+    }
+    for (final Map.Entry<String, BsonValue> operator : condition.asDocument().entrySet()) {
+      if (!matchesOperator(values, operator.getKey(), operator.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matchesOperator(
+      final List<BsonValue> values, final String operator, final BsonValue operand) {
+    switch (operator) {
+      case "$eq":
+        return containsEqual(values, operand);
+      case "$ne":
+        return !containsEqual(values, operand);
+      case "$in":
+        for (final BsonValue candidate : operand.asArray()) {
+          if (containsEqual(values, candidate)) {
+            return true;
+          }
+        }
+        return false;
+      case "$nin":
+        for (final BsonValue candidate : operand.asArray()) {
+          if (containsEqual(values, candidate)) {
+            return false;
+          }
+        }
+        return true;
+      case "$exists":
+        return !operand.isBoolean() || operand.asBoolean().getValue() != values.isEmpty();
+      case "$gt":
+        return anyCompares(values, operand, result -> result > 0);
+      case "$gte":
+        return anyCompares(values, operand, result -> result >= 0);
+      case "$lt":
+        return anyCompares(values, operand, result -> result < 0);
+      case "$lte":
+        return anyCompares(values, operand, result -> result <= 0);
+      default:
+        return true;
+    }
+  }
+
+  private static boolean isOperatorDocument(final BsonValue value) {
+    return value.isDocument()
+        && !value.asDocument().isEmpty()
+        && value.asDocument().getFirstKey().startsWith("$");
+  }
+
+  private static boolean containsEqual(final List<BsonValue> values, final BsonValue expected) {
+    if (expected.isNull() && values.isEmpty()) {
+      return true;
+    }
+    for (final BsonValue value : values) {
+      final Integer result = compare(value, expected);
+      if (result != null ? result == 0 : value.equals(expected)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean anyCompares(
+      final List<BsonValue> values, final BsonValue operand, final IntPredicate predicate) {
+    for (final BsonValue value : values) {
+      final Integer result = compare(value, operand);
+      if (result == null || predicate.test(result)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /* Null when the values are not comparable on the client. */
+  private static Integer compare(final BsonValue left, final BsonValue right) {
+    if (left.isNumber() && right.isNumber()) {
+      return left.isDouble() || right.isDouble()
+          ? Double.compare(left.asNumber().doubleValue(), right.asNumber().doubleValue())
+          : Long.compare(left.asNumber().longValue(), right.asNumber().longValue());
+    }
+    if (left.isObjectId() && right.isObjectId()) {
+      return left.asObjectId().getValue().compareTo(right.asObjectId().getValue());
+    }
+    if (left.isString() && right.isString()) {
+      return left.asString().getValue().compareTo(right.asString().getValue());
+    }
+    return null;
+  }
+
+  /* Values at a dotted path. Arrays add both the array and its elements, like the server. */
+  private static List<BsonValue> resolve(final BsonDocument document, final String path) {
+    final List<BsonValue> values = new ArrayList<>();
+    resolve(document, path.split("\\."), 0, values);
+    return values;
+  }
+
+  private static void resolve(
+      final BsonValue value, final String[] path, final int index, final List<BsonValue> values) {
+    if (index == path.length) {
+      values.add(value);
+      if (value.isArray()) {
+        values.addAll(value.asArray());
+      }
+      return;
+    }
+    if (value.isDocument()) {
+      final BsonValue child = value.asDocument().get(path[index]);
+      if (child != null) {
+        resolve(child, path, index + 1, values);
+      }
+    } else if (value.isArray()) {
+      final BsonArray array = value.asArray();
+      if (!path[index].isEmpty() && path[index].chars().allMatch(Character::isDigit)) {
+        final int position = Integer.parseInt(path[index]);
+        if (position < array.size()) {
+          resolve(array.get(position), path, index + 1, values);
+        }
+        return;
+      }
+      for (final BsonValue element : array) {
+        resolve(element, path, index, values);
+      }
+    }
+  }
+}
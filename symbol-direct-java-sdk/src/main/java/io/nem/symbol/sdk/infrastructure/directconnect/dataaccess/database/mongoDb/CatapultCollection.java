@@ -20,25 +20,47 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import io.nem.symbol.sdk.api.OrderBy;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.SearchCriteria;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.LookupCache;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.CatapultMongoDbClient;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.Searchable;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.JsonObjectMapper;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.RawBsonDocumentMapper;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.RawBsonJsonObjectMapper;
+import io.reactivex.Flowable;
 import io.vertx.core.json.JsonObject;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.bson.types.Binary;
+import org.bson.types.ObjectId;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Catapult mongodb collection.
@@ -48,10 +70,36 @@ import java.util.stream.Collectors;
  */
 class CatapultCollection<T, U extends Function<JsonObject, T>>
     implements Searchable<Bson, List<Document>> {
+  /* Wait between polls when change streams are not available. */
+  private static final long POLL_WAIT_IN_MILLISECONDS = 1000;
+  /* Max wait for a change before querying again. */
+  private static final long CHANGE_WAIT_IN_MILLISECONDS = 5000;
+  /* Default number of documents fetched per cursor round trip. */
+  static final int DEFAULT_BATCH_SIZE = 1000;
+  /* Page size used when the search criteria does not set one. */
+  private static final int DEFAULT_PAGE_SIZE = 10;
+  /* Largest page size a search can request. */
+  private static final int MAX_PAGE_SIZE = 100;
+  /* Record id key. */
+  private static final String ID_KEY = "_id";
+  /* Number of searches whose totals and page boundaries are kept. */
+  private static final int PAGE_CACHE_SIZE = 256;
+  /* Time the totals and page boundaries of a search are reused. */
+  private static final int PAGE_CACHE_TTL_IN_SECONDS = 5;
   /* Collection name */
   private final MongoCollection mongoCollection;
-  /* Mapper object */
+  /* Same collection read as raw documents, for the scans decoded straight into json objects. */
+  private final MongoCollection<RawBsonDocument> rawCollection;
+  /* Mapper object, created once since mappers have no mutable state. */
   private final Supplier<U> mapper;
+  /* Catapult database client. */
+  private final CatapultMongoDbClient client;
+  /* Collection name. */
+  private final String collectionName;
+  /* Total matches of the recent searches. */
+  private final LookupCache<String, Long> pageCounts;
+  /* Keys of the last document of the recently read pages. */
+  private final LookupCache<String, BsonDocument> pageBoundaries;
 
   /**
    * Constructor.
@@ -62,9 +110,48 @@ class CatapultCollection<T, U extends Function<JsonObject, T>>
    */
   protected CatapultCollection(
 		  final CatapultMongoDbClient client, final String collectionName, final Supplier<U> mapper) {
-    this.mapper = mapper;
+    this.mapper = memoize(mapper);
+    this.client = client;
+    this.collectionName = collectionName;
     final MongoDatabase db = client.getDatabase();
     this.mongoCollection = db.getCollection(collectionName);
+    this.rawCollection = db.getCollection(collectionName, RawBsonDocument.class);
+    this.pageCounts = new LookupCache<>(PAGE_CACHE_SIZE, PAGE_CACHE_TTL_IN_SECONDS);
+    this.pageBoundaries = new LookupCache<>(PAGE_CACHE_SIZE, PAGE_CACHE_TTL_IN_SECONDS);
+  }
+
+  /**
+   * Creates a supplier that keeps the first value created.
+   *
+   * @param supplier Supplier of the value.
+   * @return Caching supplier.
+   */
+  static <V> Supplier<V> memoize(final Supplier<V> supplier) {
+    final AtomicReference<V> value = new AtomicReference<>();
+    return () -> {
+      final V current = value.get();
+      if (current != null) {
+        return current;
+      }
+      value.compareAndSet(null, supplier.get());
+      return value.get();
+    };
+  }
+
+  /**
+   * Gets the mapper of the raw documents read by the scans. Mappers that read raw documents
+   * decode them straight from the bytes, the others get a json object read from the bytes.
+   *
+   * @return Raw document mapper.
+   */
+  @SuppressWarnings("unchecked")
+  private Function<RawBsonDocument, T> getRawMapper() {
+    final U resultMapper = mapper.get();
+    if (resultMapper instanceof RawBsonDocumentMapper) {
+      return ((RawBsonDocumentMapper<T>) resultMapper)::map;
+    }
+    final RawBsonJsonObjectMapper jsonObjectMapper = new RawBsonJsonObjectMapper();
+    return document -> resultMapper.apply(jsonObjectMapper.apply(document));
   }
 
   /**
@@ -91,6 +178,18 @@ class CatapultCollection<T, U extends Function<JsonObject, T>>
             .collect(Collectors.toList());
   }
 
+  /**
+   * Converts hex values to binaries for a query.
+   *
+   * @param hexValues List of hex values.
+   * @return List of binaries.
+   */
+  static List<Binary> toBinaries(final List<String> hexValues) {
+    return hexValues.stream()
+        .map(hexValue -> new Binary((byte) 0, ConvertUtils.getBytes(hexValue)))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Gets one document from the collection.
    *
@@ -121,20 +220,311 @@ class CatapultCollection<T, U extends Function<JsonObject, T>>
    */
   @Override
   public List<Document> find(final Bson queryParams, final int timeoutInSeconds) {
+    final List<Document> documents = this.find(queryParams);
+    if (documents.size() > 0 || timeoutInSeconds <= 0) {
+      return documents;
+    }
     final LocalDateTime timeout = LocalDateTime.now().plusSeconds(timeoutInSeconds);
-    final long sleepTime = 1000;
+    final ChangeStreamNotifier notifier = client.getChangeStreamNotifier(collectionName);
+    return notifier.start()
+        ? waitForChange(queryParams, timeout, notifier)
+        : poll(queryParams, timeout);
+  }
+
+  /**
+   * Runs the query again each time a document that may match it changes.
+   *
+   * @param queryParams Query parameter.
+   * @param timeout Time to stop waiting.
+   * @param notifier Collection change notifier.
+   * @return List of document.
+   */
+  private List<Document> waitForChange(
+      final Bson queryParams, final LocalDateTime timeout, final ChangeStreamNotifier notifier) {
+    try (final ChangeStreamNotifier.Subscription subscription = notifier.subscribe(queryParams)) {
+      do {
+        final List<Document> documents = this.find(queryParams);
+        if (documents.size() > 0) {
+          return documents;
+        }
+        final long remaining = Duration.between(LocalDateTime.now(), timeout).toMillis();
+        if (!subscription.awaitChange(Math.min(remaining, CHANGE_WAIT_IN_MILLISECONDS))) {
+          return poll(queryParams, timeout);
+        }
+      } while (timeout.isAfter(LocalDateTime.now()));
+    }
 
+    return this.find(queryParams);
+  }
+
+  /**
+   * Runs the query at a fixed interval.
+   *
+   * @param queryParams Query parameter.
+   * @param timeout Time to stop waiting.
+   * @return List of document.
+   */
+  private List<Document> poll(final Bson queryParams, final LocalDateTime timeout) {
     do {
       final List<Document> documents = this.find(queryParams);
       if (documents.size() > 0) {
         return documents;
       }
-      ExceptionUtils.propagateVoid(() -> Thread.sleep(sleepTime));
+      ExceptionUtils.propagateVoid(() -> Thread.sleep(POLL_WAIT_IN_MILLISECONDS));
     } while (timeout.isAfter(LocalDateTime.now()));
 
     return new ArrayList<>();
   }
 
+  /**
+   * Opens a cursor for the query.
+   *
+   * @param queryParams Query parameter.
+   * @param projection Fields to return or null for the whole document.
+   * @param sort Sort order or null for the natural order.
+   * @param batchSize Number of documents fetched per round trip.
+   * @return Mongo cursor.
+   */
+  private MongoCursor<RawBsonDocument> openCursor(
+      final Bson queryParams, final Bson projection, final Bson sort, final int batchSize) {
+    final FindIterable<RawBsonDocument> findIterable = rawCollection.find(queryParams);
+    if (projection != null) {
+      findIterable.projection(projection);
+    }
+    if (sort != null) {
+      findIterable.sort(sort);
+    }
+    return findIterable.batchSize(batchSize).iterator();
+  }
+
+  /**
+   * Streams the documents found by the query. Documents are pulled from the cursor as they are
+   * requested and mapped one at a time, so the result set is never held in memory. The cursor is
+   * closed when the flowable completes or is cancelled.
+   *
+   * @param queryParams Query parameter.
+   * @param projection Fields to return or null for the whole document.
+   * @param sort Sort order or null for the natural order.
+   * @param batchSize Number of documents fetched per round trip.
+   * @return Flowable of T.
+   */
+  public Flowable<T> findFlowable(
+      final Bson queryParams, final Bson projection, final Bson sort, final int batchSize) {
+    return Flowable.defer(
+        () -> {
+          final Function<RawBsonDocument, T> rawMapper = getRawMapper();
+          return Flowable.<RawBsonDocument, MongoCursor<RawBsonDocument>>generate(
+                  () -> openCursor(queryParams, projection, sort, batchSize),
+                  (cursor, emitter) -> {
+                    if (cursor.hasNext()) {
+                      emitter.onNext(cursor.next());
+                    } else {
+                      emitter.onComplete();
+                    }
+                  },
+                  MongoCursor::close)
+              .map(rawMapper::apply);
+        });
+  }
+
+  /**
+   * Streams the documents found by the query.
+   *
+   * @param queryParams Query parameter.
+   * @return Flowable of T.
+   */
+  public Flowable<T> findFlowable(final Bson queryParams) {
+    return findFlowable(queryParams, null, null, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Streams the documents found by the query. The stream must be closed to release the cursor if
+   * it is not fully consumed.
+   *
+   * @param queryParams Query parameter.
+   * @param projection Fields to return or null for the whole document.
+   * @param sort Sort order or null for the natural order.
+   * @param batchSize Number of documents fetched per round trip.
+   * @return Stream of T.
+   */
+  public Stream<T> findStream(
+      final Bson queryParams, final Bson projection, final Bson sort, final int batchSize) {
+    final Function<RawBsonDocument, T> rawMapper = getRawMapper();
+    final MongoCursor<RawBsonDocument> cursor =
+        openCursor(queryParams, projection, sort, batchSize);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(cursor::close)
+        .map(rawMapper);
+  }
+
+  /**
+   * Streams the documents found by the query.
+   *
+   * @param queryParams Query parameter.
+   * @return Stream of T.
+   */
+  public Stream<T> findStream(final Bson queryParams) {
+    return findStream(queryParams, null, null, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Finds one page of documents, sorted by a key and then by record id. The offset is the record
+   * id of the last document of the previous page, for every collection, and the page starts right
+   * after that document with a range query on the key. Without an offset, the page starts after
+   * the last document of the previous page when that page was just read, and otherwise after the
+   * index entries of the previous pages are skipped. The page number is the caller's one and the
+   * totals count the whole query, not only what follows the offset.
+   *
+   * @param queryParams Query parameter.
+   * @param keyName Indexed key used to sort the results, the record id breaks ties.
+   * @param offset Record id of the last document of the previous page or null.
+   * @param criteria Search criteria with the page size, page number and order.
+   * @param timeoutInSeconds Time to wait for a first matching document.
+   * @return Page of T.
+   */
+  public Page<T> findPage(
+      final Bson queryParams,
+      final String keyName,
+      final ObjectId offset,
+      final SearchCriteria<?> criteria,
+      final int timeoutInSeconds) {
+    final int pageSize = getPageSize(criteria);
+    final int pageNumber =
+        criteria.getPageNumber() == null ? 1 : Math.max(1, criteria.getPageNumber());
+    final boolean ascending = criteria.getOrder() == OrderBy.ASC;
+    final String queryKey =
+        queryParams.toBsonDocument(BsonDocument.class, rawCollection.getCodecRegistry()).toJson()
+            + keyName
+            + ascending
+            + pageSize;
+
+    long totalEntries = countDocuments(queryParams, queryKey);
+    if (totalEntries == 0 && timeoutInSeconds > 0) {
+      find(queryParams, timeoutInSeconds);
+      totalEntries = countDocuments(queryParams, queryKey);
+    }
+    final int totalPages = (int) ((totalEntries + pageSize - 1) / pageSize);
+
+    final Optional<BsonDocument> previousLast =
+        offset != null
+            ? findPageKeys(Filters.eq(ID_KEY, offset), keyName)
+            : getPreviousLast(queryParams, queryKey, keyName, ascending, pageSize, pageNumber);
+    final List<RawBsonDocument> documents;
+    if (offset != null && !previousLast.isPresent()) {
+      throw new IllegalArgumentException("Offset " + offset + " was not found.");
+    } else if (pageNumber > 1 && !previousLast.isPresent()) {
+      /* The page starts past the last document. */
+      documents = new ArrayList<>();
+    } else {
+      final Bson pageFilter =
+          previousLast
+              .map(last -> Filters.and(queryParams, startAfter(keyName, last, ascending)))
+              .orElse(queryParams);
+      documents =
+          rawCollection
+              .find(pageFilter)
+              .sort(getPageSort(keyName, ascending))
+              .limit(pageSize)
+              .into(new ArrayList<RawBsonDocument>());
+    }
+    if (!documents.isEmpty()) {
+      pageBoundaries.put(
+          queryKey + pageNumber, getPageKeys(documents.get(documents.size() - 1), keyName));
+    }
+
+    final Function<RawBsonDocument, T> rawMapper = getRawMapper();
+    final List<T> data =
+        documents.stream()
+            .map(rawMapper)
+            .collect(Collectors.toList());
+    return new Page<>(data, pageNumber, pageSize, (int) totalEntries, totalPages);
+  }
+
+  private static int getPageSize(final SearchCriteria<?> criteria) {
+    if (criteria.getPageSize() == null || criteria.getPageSize() <= 0) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    return Math.min(criteria.getPageSize(), MAX_PAGE_SIZE);
+  }
+
+  /* Counts the matches once for all the pages read within the cache time to live. */
+  private long countDocuments(final Bson queryParams, final String queryKey) {
+    return pageCounts
+        .get(
+            queryKey,
+            () -> {
+              final long count = mongoCollection.countDocuments(queryParams);
+              return count > 0 ? Optional.of(count) : Optional.empty();
+            })
+        .orElse(0L);
+  }
+
+  /* Sort and record id of the last document of the previous page, empty on the first page. */
+  private Optional<BsonDocument> getPreviousLast(
+      final Bson queryParams,
+      final String queryKey,
+      final String keyName,
+      final boolean ascending,
+      final int pageSize,
+      final int pageNumber) {
+    if (pageNumber == 1) {
+      return Optional.empty();
+    }
+    final Optional<BsonDocument> boundary =
+        pageBoundaries.getIfPresent(queryKey + (pageNumber - 1));
+    if (boundary.isPresent()) {
+      return boundary;
+    }
+    final RawBsonDocument previousLast =
+        rawCollection
+            .find(queryParams)
+            .sort(getPageSort(keyName, ascending))
+            .projection(Projections.include(keyName, ID_KEY))
+            .skip((pageNumber - 1) * pageSize - 1)
+            .first();
+    return Optional.ofNullable(previousLast).map(document -> getPageKeys(document, keyName));
+  }
+
+  private Optional<BsonDocument> findPageKeys(final Bson queryParams, final String keyName) {
+    return Optional.ofNullable(
+            rawCollection
+                .find(queryParams)
+                .projection(Projections.include(keyName, ID_KEY))
+                .first())
+        .map(document -> getPageKeys(document, keyName));
+  }
+
+  private static BsonDocument getPageKeys(final BsonDocument document, final String keyName) {
+    BsonValue keyValue = document;
+    for (final String name : keyName.split("\\.")) {
+      keyValue = keyValue.asDocument().get(name);
+    }
+    return new BsonDocument(keyName, keyValue).append(ID_KEY, document.get(ID_KEY));
+  }
+
+  private static Bson getPageSort(final String keyName, final boolean ascending) {
+    if (ID_KEY.equals(keyName)) {
+      return ascending ? Sorts.ascending(ID_KEY) : Sorts.descending(ID_KEY);
+    }
+    return ascending ? Sorts.ascending(keyName, ID_KEY) : Sorts.descending(keyName, ID_KEY);
+  }
+
+  private static Bson startAfter(
+      final String keyName, final BsonDocument last, final boolean ascending) {
+    final BsonValue id = last.get(ID_KEY);
+    if (ID_KEY.equals(keyName)) {
+      return ascending ? Filters.gt(ID_KEY, id) : Filters.lt(ID_KEY, id);
+    }
+    final BsonValue keyValue = last.get(keyName);
+    return Filters.or(
+        ascending ? Filters.gt(keyName, keyValue) : Filters.lt(keyName, keyValue),
+        Filters.and(
+            Filters.eq(keyName, keyValue),
+            ascending ? Filters.gt(ID_KEY, id) : Filters.lt(ID_KEY, id)));
+  }
+
   /**
    * Find all documents.
    *
@@ -145,6 +535,16 @@ class CatapultCollection<T, U extends Function<JsonObject, T>>
         (List<Document>) mongoCollection.find().into(new ArrayList<Document>());
     return ConvertResult(documents);
   }
+
+  /**
+   * Gets the number of documents from the collection metadata, without scanning the collection.
+   *
+   * @return Document count.
+   */
+  public long count() {
+    return mongoCollection.estimatedDocumentCount();
+  }
+
   /**
    * Find documents.
    *
@@ -21,11 +21,17 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.ChainStatisticInfoMapper;
+import io.reactivex.Single;
+import org.bson.Document;
 
 public class ChainStatisticCollection {
   /** Catapult collection */
   private final CatapultCollection<ChainStatisticInfo, ChainStatisticInfoMapper> catapultCollection;
+  /* Reactive collection, null when the sync driver is selected. */
+  private final ReactiveCatapultCollection<ChainStatisticInfo, ChainStatisticInfoMapper>
+      reactiveCollection;
   /* Catapult context. */
   private final DataAccessContext context;
 
@@ -38,6 +44,13 @@ public class ChainStatisticCollection {
     catapultCollection =
         new CatapultCollection<>(
             context.getCatapultMongoDbClient(), "chainStatistic", ChainStatisticInfoMapper::new);
+    reactiveCollection =
+        context.getDatabaseDriver() == DatabaseDriver.REACTIVE
+            ? new ReactiveCatapultCollection<>(
+                context.getCatapultMongoDbClient(),
+                "chainStatistic",
+                ChainStatisticInfoMapper::new)
+            : null;
     this.context = context;
   }
 
@@ -49,4 +62,16 @@ public class ChainStatisticCollection {
   public ChainStatisticInfo get() {
     return catapultCollection.findAll().get(0);
   }
+
+  /**
+   * Gets chain info without blocking on the query when the reactive driver is selected.
+   *
+   * @return Chain info.
+   */
+  public Single<ChainStatisticInfo> getAsync() {
+    if (reactiveCollection == null) {
+      return Single.fromCallable(this::get);
+    }
+    return reactiveCollection.find(new Document()).firstOrError();
+  }
 }
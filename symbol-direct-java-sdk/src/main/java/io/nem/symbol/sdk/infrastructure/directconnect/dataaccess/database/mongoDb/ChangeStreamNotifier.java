@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a collection change stream and wakes up the threads waiting for a new or updated
+ * document. One stream is shared by all the waiters of a collection, and a change only wakes the
+ * waiters whose query filter may match the changed document. Change streams are only available on
+ * replica sets, callers must fall back to polling when {@link #start()} fails.
+ */
+public class ChangeStreamNotifier {
+  /** Map of notifiers. */
+  private static final ConcurrentHashMap<String, ChangeStreamNotifier> notifierHashMap =
+      new ConcurrentHashMap<>();
+  /* Time to wait for the stream to open. */
+  private static final long START_TIMEOUT_IN_MILLISECONDS = 5000;
+  /* Time to wait before reopening a failed stream. */
+  private static final long REOPEN_WAIT_IN_MILLISECONDS = 1000;
+  /* Shortest time between two wake ups of the same waiter, so it re-queries at a bounded rate. */
+  private static final long MIN_WAKE_INTERVAL_IN_MILLISECONDS = 100;
+  /* Server errors meaning change streams are not supported: not a replica set, old server. */
+  private static final Set<Integer> UNSUPPORTED_ERROR_CODES =
+      new HashSet<>(Arrays.asList(40573, 40324));
+
+  /* Collection to watch. */
+  private final MongoCollection<Document> collection;
+  /* Signaled once the stream is opened or failed to open. */
+  private final CountDownLatch startedLatch;
+  private final Logger logger;
+  /* Registered waiters. */
+  private final Set<Subscription> subscriptions;
+  private volatile boolean available;
+  private boolean started;
+
+  /**
+   * Constructor.
+   *
+   * @param collection Collection to watch.
+   */
+  private ChangeStreamNotifier(final MongoCollection<Document> collection) {
+    this.collection = collection;
+    this.startedLatch = new CountDownLatch(1);
+    this.logger = LogManager.getLogger("database");
+    this.subscriptions = ConcurrentHashMap.newKeySet();
+    this.available = true;
+  }
+
+  /**
+   * Gets the shared notifier of a collection.
+   *
+   * @param key Unique key of the database server.
+   * @param collection Collection to watch.
+   * @return Change stream notifier.
+   */
+  public static ChangeStreamNotifier get(
+      final String key, final MongoCollection<Document> collection) {
+    return notifierHashMap.computeIfAbsent(
+        key + collection.getNamespace().getFullName(),
+        k -> new ChangeStreamNotifier(collection));
+  }
+
+  /**
+   * Opens the change stream if needed.
+   *
+   * @return True if the change stream is available.
+   */
+  public boolean start() {
+    synchronized (this) {
+      if (!started) {
+        started = true;
+        final Thread watchThread =
+            new Thread(this::watch, "change-stream-" + collection.getNamespace());
+        watchThread.setDaemon(true);
+        watchThread.start();
+      }
+    }
+    ExceptionUtils.propagateVoid(
+        () -> startedLatch.await(START_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+    return available && startedLatch.getCount() == 0;
+  }
+
+  /**
+   * Registers a waiter for the changes that may match a query. Subscribe before running the query
+   * so that no change is missed, and close the subscription once done.
+   *
+   * @param queryParams Query filter.
+   * @return Subscription.
+   */
+  public Subscription subscribe(final Bson queryParams) {
+    final Subscription subscription =
+        new Subscription(
+            queryParams.toBsonDocument(BsonDocument.class, collection.getCodecRegistry()));
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  /* Wakes up the waiters that may see the document, or all of them when it is unknown. */
+  private void signalChange(final BsonDocument document) {
+    boolean changed = false;
+    for (final Subscription subscription : subscriptions) {
+      if (document == null || BsonFilterMatcher.matches(subscription.filter, document)) {
+        subscription.changed = true;
+        changed = true;
+      }
+    }
+    if (changed) {
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+  }
+
+  private synchronized void signalUnavailable() {
+    available = false;
+    notifyAll();
+  }
+
+  private void watch() {
+    while (available) {
+      try (final MongoCursor<ChangeStreamDocument<BsonDocument>> cursor =
+          collection
+              .watch(
+                  Collections.singletonList(
+                      Aggregates.match(
+                          Filters.in(
+                              "operationType", Arrays.asList("insert", "update", "replace")))),
+                  BsonDocument.class)
+              .fullDocument(FullDocument.UPDATE_LOOKUP)
+              .iterator()) {
+        startedLatch.countDown();
+        while (cursor.hasNext()) {
+          signalChange(cursor.next().getFullDocument());
+        }
+      } catch (final MongoCommandException e) {
+        if (UNSUPPORTED_ERROR_CODES.contains(e.getErrorCode())) {
+          // Standalone servers do not support change streams.
+          logger.info("Change stream not available: " + e.getErrorMessage());
+          signalUnavailable();
+        } else {
+          onStreamFailure(e);
+        }
+      } catch (final Exception e) {
+        onStreamFailure(e);
+      }
+    }
+    startedLatch.countDown();
+  }
+
+  private void onStreamFailure(final Exception e) {
+    logger.error("Change stream failed: " + e.getMessage());
+    // Changes could have been missed while the stream was down.
+    signalChange(null);
+    ExceptionUtils.propagateVoid(() -> Thread.sleep(REOPEN_WAIT_IN_MILLISECONDS));
+  }
+
+  /** Waiter for the changes that may match a query filter. */
+  public class Subscription implements AutoCloseable {
+    /* Query filter of the waiter. */
+    private final BsonDocument filter;
+    /* Set when a matching change is seen, cleared when the waiter wakes up. */
+    private volatile boolean changed;
+    /* Time the waiter last woke up on a change. */
+    private long lastWakeTime;
+
+    private Subscription(final BsonDocument filter) {
+      this.filter = filter;
+    }
+
+    /**
+     * Waits for a change that may match the query since the last call. Wake ups are spaced by a
+     * minimum interval, changes seen in between are merged.
+     *
+     * @param timeoutInMilliseconds Max time to wait.
+     * @return True if the change stream is still available.
+     */
+    public boolean awaitChange(final long timeoutInMilliseconds) {
+      final long deadline = System.currentTimeMillis() + timeoutInMilliseconds;
+      synchronized (ChangeStreamNotifier.this) {
+        long now = System.currentTimeMillis();
+        while (available && now < deadline) {
+          final long wakeTime = lastWakeTime + MIN_WAKE_INTERVAL_IN_MILLISECONDS;
+          if (changed && now >= wakeTime) {
+            break;
+          }
+          final long waitTime = Math.min(deadline, changed ? wakeTime : deadline) - now;
+          ExceptionUtils.propagateVoid(() -> ChangeStreamNotifier.this.wait(waitTime));
+          now = System.currentTimeMillis();
+        }
+        if (changed) {
+          changed = false;
+          lastWakeTime = now;
+        }
+        return available;
+      }
+    }
+
+    /** Stops receiving changes. */
+    @Override
+    public void close() {
+      subscriptions.remove(this);
+    }
+  }
+}
@@ -20,29 +20,35 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.network.NetworkType;
 
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
-/** The block info structure */
+/**
+ * The block info structure. Hashes, keys and signatures are kept as the stored bytes and only
+ * hex encoded when read, so scans that use a few fields do not pay for the others.
+ */
 public class FullBlockInfo {
 
   private final String recordId;
   private final Long size;
-  private final String hash;
-  private final String generationHash;
+  private final byte[] hash;
+  private final byte[] generationHash;
   private final BigInteger totalFee;
   private final Integer numTransactions;
   private final Integer numStatements;
-  private final List<String> subCacheMerkleRoots;
-  private final List<String> statementMerkleTree;
-  private final List<String> transactionMerkleTree;
-  private final String signature;
-  private final PublicAccount signerPublicAccount;
+  private final List<byte[]> subCacheMerkleRoots;
+  private final List<byte[]> statementMerkleTree;
+  private final List<byte[]> transactionMerkleTree;
+  private final byte[] signature;
+  private final byte[] signerPublicKey;
   private final NetworkType networkType;
   private final Integer version;
   private final int type;
@@ -50,29 +56,29 @@ public class FullBlockInfo {
   private final BigInteger timestamp;
   private final BigInteger difficulty;
   private final Long feeMultiplier;
-  private final String previousBlockHash;
-  private final String blockTransactionsHash;
-  private final String blockReceiptsHash;
-  private final String stateHash;
-  private final Address beneficiaryAddress;
-  private final String proofGamma;
-  private final String proofVerificationHash;
-  private final String proofScalar;
+  private final byte[] previousBlockHash;
+  private final byte[] blockTransactionsHash;
+  private final byte[] blockReceiptsHash;
+  private final byte[] stateHash;
+  private final byte[] beneficiaryAddress;
+  private final byte[] proofGamma;
+  private final byte[] proofVerificationHash;
+  private final byte[] proofScalar;
 
   @SuppressWarnings("squid:S00107")
   private FullBlockInfo(
       final String recordId,
       final Long size,
-      final String hash,
-      final String generationHash,
+      final byte[] hash,
+      final byte[] generationHash,
       final BigInteger totalFee,
       final Integer numTransactions,
       final Integer numStatements,
-      final List<String> subCacheMerkleRoots,
-      final List<String> statementMerkleTree,
-      final List<String> transactionMerkleTree,
-      final String signature,
-      final PublicAccount signerPublicAccount,
+      final List<byte[]> subCacheMerkleRoots,
+      final List<byte[]> statementMerkleTree,
+      final List<byte[]> transactionMerkleTree,
+      final byte[] signature,
+      final byte[] signerPublicKey,
       final NetworkType networkType,
       final Integer version,
       final int type,
@@ -80,14 +86,14 @@ public class FullBlockInfo {
       final BigInteger timestamp,
       final BigInteger difficulty,
       final Long feeMultiplier,
-      final String previousBlockHash,
-      final String blockTransactionsHash,
-      final String blockReceiptsHash,
-      final String stateHash,
-      final Address beneficiaryAddress,
-      final String proofGamma,
-      final String proofVerificationHash,
-      final String proofScalar) {
+      final byte[] previousBlockHash,
+      final byte[] blockTransactionsHash,
+      final byte[] blockReceiptsHash,
+      final byte[] stateHash,
+      final byte[] beneficiaryAddress,
+      final byte[] proofGamma,
+      final byte[] proofVerificationHash,
+      final byte[] proofScalar) {
     this.recordId = recordId;
     this.size = size;
     this.hash = hash;
@@ -99,7 +105,7 @@ public class FullBlockInfo {
     this.statementMerkleTree = statementMerkleTree;
     this.transactionMerkleTree = transactionMerkleTree;
     this.signature = signature;
-    this.signerPublicAccount = signerPublicAccount;
+    this.signerPublicKey = signerPublicKey;
     this.networkType = networkType;
     this.version = version;
     this.type = type;
@@ -146,11 +152,66 @@ public class FullBlockInfo {
       final String proofGamma,
       final String proofVerificationHash,
       final String proofScalar) {
-    PublicAccount signerPublicAccount = FullBlockInfo.getPublicAccount(signer, networkType);
-    final Address beneficiaryAddress =
-        beneficiaryAddressString == null
-            ? null
-            : Address.createFromEncoded(beneficiaryAddressString);
+    return new FullBlockInfo(
+        recordId,
+        size,
+        toBytes(hash),
+        toBytes(generationHash),
+        totalFee,
+        numTransactions,
+        numStatements,
+        toBytes(subCacheMerkleRoots),
+        toBytes(statementMerkleTree),
+        toBytes(transactionMerkleTree),
+        toBytes(signature),
+        toBytes(signer),
+        networkType,
+        version,
+        type,
+        height,
+        timestamp,
+        difficulty,
+        feeMultiplier,
+        toBytes(previousBlockHash),
+        toBytes(blockTransactionsHash),
+        toBytes(blockReceiptsHash),
+        toBytes(stateHash),
+        toBytes(beneficiaryAddressString),
+        toBytes(proofGamma),
+        toBytes(proofVerificationHash),
+        toBytes(proofScalar));
+  }
+
+  /** Creates the block info from the stored bytes, without encoding them. */
+  @SuppressWarnings("squid:S00107")
+  public static FullBlockInfo createFromBytes(
+      final String recordId,
+      final Long size,
+      final byte[] hash,
+      final byte[] generationHash,
+      final BigInteger totalFee,
+      final Integer numTransactions,
+      final Integer numStatements,
+      final List<byte[]> subCacheMerkleRoots,
+      final List<byte[]> statementMerkleTree,
+      final List<byte[]> transactionMerkleTree,
+      final byte[] signature,
+      final byte[] signerPublicKey,
+      final NetworkType networkType,
+      final Integer version,
+      final int type,
+      final BigInteger height,
+      final BigInteger timestamp,
+      final BigInteger difficulty,
+      final Long feeMultiplier,
+      final byte[] previousBlockHash,
+      final byte[] blockTransactionsHash,
+      final byte[] blockReceiptsHash,
+      final byte[] stateHash,
+      final byte[] beneficiaryAddress,
+      final byte[] proofGamma,
+      final byte[] proofVerificationHash,
+      final byte[] proofScalar) {
     return new FullBlockInfo(
         recordId,
         size,
@@ -163,7 +224,7 @@ public class FullBlockInfo {
         statementMerkleTree,
         transactionMerkleTree,
         signature,
-        signerPublicAccount,
+        signerPublicKey,
         networkType,
         version,
         type,
@@ -214,7 +275,7 @@ public class FullBlockInfo {
    * @return String
    */
   public String getHash() {
-    return hash;
+    return toHex(hash);
   }
 
   /**
@@ -223,7 +284,7 @@ public class FullBlockInfo {
    * @return String
    */
   public String getGenerationHash() {
-    return generationHash;
+    return toHex(generationHash);
   }
 
   /**
@@ -260,7 +321,7 @@ public class FullBlockInfo {
    * @return List of state hash.
    */
   public List<String> getSubCacheMerkleRoots() {
-    return subCacheMerkleRoots;
+    return toHex(subCacheMerkleRoots);
   }
 
   /**
@@ -269,7 +330,7 @@ public class FullBlockInfo {
    * @return Statements merkle tree.
    */
   public List<String> getStatementMerkleTree() {
-    return statementMerkleTree;
+    return toHex(statementMerkleTree);
   }
 
   /**
@@ -278,7 +339,7 @@ public class FullBlockInfo {
    * @return Transaction merkle tree.
    */
   public List<String> getTransactionMerkleTree() {
-    return transactionMerkleTree;
+    return toHex(transactionMerkleTree);
   }
 
   /**
@@ -288,7 +349,7 @@ public class FullBlockInfo {
    * @return Block signature.
    */
   public String getSignature() {
-    return signature;
+    return toHex(signature);
   }
 
   /**
@@ -297,7 +358,7 @@ public class FullBlockInfo {
    * @return {@link PublicAccount}
    */
   public PublicAccount getSignerPublicAccount() {
-    return signerPublicAccount;
+    return getPublicAccount(toHex(signerPublicKey), networkType);
   }
 
   /**
@@ -370,7 +431,7 @@ public class FullBlockInfo {
    * @return String
    */
   public String getPreviousBlockHash() {
-    return previousBlockHash;
+    return toHex(previousBlockHash);
   }
 
   /**
@@ -379,7 +440,7 @@ public class FullBlockInfo {
    * @return String
    */
   public String getBlockTransactionsHash() {
-    return blockTransactionsHash;
+    return toHex(blockTransactionsHash);
   }
 
   /**
@@ -388,7 +449,7 @@ public class FullBlockInfo {
    * @return String
    */
   public String getBlockReceiptsHash() {
-    return blockReceiptsHash;
+    return toHex(blockReceiptsHash);
   }
 
   /**
@@ -397,7 +458,7 @@ public class FullBlockInfo {
    * @return String
    */
   public String getStateHash() {
-    return stateHash;
+    return toHex(stateHash);
   }
 
   /**
@@ -406,7 +467,9 @@ public class FullBlockInfo {
    * @return Address
    */
   public Address getBeneficiaryAddress() {
-    return beneficiaryAddress;
+    return beneficiaryAddress == null
+        ? null
+        : Address.createFromEncoded(toHex(beneficiaryAddress));
   }
 
   /**
@@ -415,7 +478,7 @@ public class FullBlockInfo {
    * @return Proof Gamma.
    */
   public String getProofGamma() {
-    return proofGamma;
+    return toHex(proofGamma);
   }
 
   /**
@@ -424,7 +487,7 @@ public class FullBlockInfo {
    * @return Proof scalar.
    */
   public String getProofScalar() {
-    return proofScalar;
+    return toHex(proofScalar);
   }
 
   /**
@@ -433,7 +496,7 @@ public class FullBlockInfo {
    * @return Proof verification hash.
    */
   public String getProofVerificationHash() {
-    return proofVerificationHash;
+    return toHex(proofVerificationHash);
   }
 
   public String getRecordId() {
@@ -443,4 +506,60 @@ public class FullBlockInfo {
   public Long getSize() {
     return size;
   }
+
+  /**
+   * Converts to the block info model.
+   *
+   * @return Block info.
+   */
+  public BlockInfo toBlockInfo() {
+    final List<String> subCacheMerkleRootsHex = getSubCacheMerkleRoots();
+    return new BlockInfo(
+        recordId,
+        size,
+        getHash(),
+        getGenerationHash(),
+        totalFee,
+        subCacheMerkleRootsHex,
+        numTransactions,
+        Optional.of(numStatements),
+        subCacheMerkleRootsHex,
+        getSignature(),
+        getSignerPublicAccount(),
+        networkType,
+        version,
+        type,
+        height,
+        timestamp,
+        difficulty,
+        feeMultiplier,
+        getPreviousBlockHash(),
+        getBlockTransactionsHash(),
+        getBlockReceiptsHash(),
+        getStateHash(),
+        getProofGamma(),
+        getProofScalar(),
+        getProofVerificationHash(),
+        getBeneficiaryAddress());
+  }
+
+  private static byte[] toBytes(final String hex) {
+    return hex == null ? null : ConvertUtils.getBytes(hex);
+  }
+
+  private static List<byte[]> toBytes(final List<String> hexValues) {
+    return hexValues == null
+        ? null
+        : hexValues.stream().map(FullBlockInfo::toBytes).collect(Collectors.toList());
+  }
+
+  private static String toHex(final byte[] bytes) {
+    return bytes == null ? null : ConvertUtils.toHex(bytes);
+  }
+
+  private static List<String> toHex(final List<byte[]> values) {
+    return values == null
+        ? null
+        : values.stream().map(FullBlockInfo::toHex).collect(Collectors.toList());
+  }
 }
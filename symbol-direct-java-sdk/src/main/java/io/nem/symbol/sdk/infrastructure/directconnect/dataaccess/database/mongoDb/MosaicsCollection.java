@@ -21,15 +21,23 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.LookupCache;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.MosaicInfoMapper;
 import io.nem.symbol.sdk.model.mosaic.MosaicInfo;
+import io.reactivex.Maybe;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /** Mosaics collection */
 public class MosaicsCollection {
   /** Catapult collection */
   private final CatapultCollection<MosaicInfo, MosaicInfoMapper> catapultCollection;
+  /* Reactive collection, null when the sync driver is selected. */
+  private final ReactiveCatapultCollection<MosaicInfo, MosaicInfoMapper> reactiveCollection;
+  /* Mosaics by id. */
+  private final LookupCache<Long, MosaicInfo> cache;
   /* Catapult context. */
   private final DataAccessContext context;
 
@@ -40,12 +48,22 @@ public class MosaicsCollection {
    */
   public MosaicsCollection(final DataAccessContext context) {
     this.context = context;
+    final Supplier<MosaicInfoMapper> mapper =
+        () ->
+            new MosaicInfoMapper(
+                context
+                    .getCollection(BlocksCollection.class, BlocksCollection::new)
+                    .find(1)
+                    .get()
+                    .getNetworkType());
     catapultCollection =
-        new CatapultCollection<>(
-            context.getCatapultMongoDbClient(),
-            "mosaics",
-            () ->
-                new MosaicInfoMapper(new BlocksCollection(context).find(1).get().getNetworkType()));
+        new CatapultCollection<>(context.getCatapultMongoDbClient(), "mosaics", mapper);
+    reactiveCollection =
+        context.getDatabaseDriver() == DatabaseDriver.REACTIVE
+            ? new ReactiveCatapultCollection<>(
+                context.getCatapultMongoDbClient(), "mosaics", mapper)
+            : null;
+    cache = context.createLookupCache();
   }
 
   /**
@@ -56,6 +74,50 @@ public class MosaicsCollection {
    */
   public Optional<MosaicInfo> find(final long mosaicId) {
     final String keyName = "mosaic.id";
-    return catapultCollection.findOne(keyName, mosaicId, context.getDatabaseTimeoutInSeconds());
+    return cache.get(
+        mosaicId,
+        () ->
+            catapultCollection.findOne(
+                keyName, mosaicId, context.getDatabaseTimeoutInSeconds()));
+  }
+
+  /**
+   * Gets mosaic id info without blocking on the query when the reactive driver is selected.
+   *
+   * @param mosaicId Mosaic id.
+   * @return Mosaic info, empty if not found.
+   */
+  public Maybe<MosaicInfo> findAsync(final long mosaicId) {
+    if (reactiveCollection == null) {
+      return Maybe.fromCallable(() -> find(mosaicId).orElse(null));
+    }
+    return cache.getAsync(
+        mosaicId,
+        key ->
+            reactiveCollection.findOne(
+                "mosaic.id", mosaicId, context.getDatabaseTimeoutInSeconds()));
+  }
+
+  /**
+   * Removes a mosaic from the lookup cache.
+   *
+   * @param mosaicId Mosaic id.
+   */
+  public void invalidate(final long mosaicId) {
+    cache.invalidate(mosaicId);
+  }
+
+  /** Removes all the mosaics from the lookup cache. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Gets the lookup cache.
+   *
+   * @return Lookup cache.
+   */
+  public LookupCache<Long, MosaicInfo> getLookupCache() {
+    return cache;
   }
 }
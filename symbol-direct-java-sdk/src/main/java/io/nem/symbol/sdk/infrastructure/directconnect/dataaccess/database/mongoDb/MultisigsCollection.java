@@ -20,7 +20,9 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.LookupCache;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.MultisigAccountInfoMapper;
 import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
 
@@ -33,6 +35,8 @@ public class MultisigsCollection {
   /** Catapult collection. */
   private final CatapultCollection<MultisigAccountInfo, MultisigAccountInfoMapper>
       catapultCollection;
+  /* Multisig accounts by address hex. */
+  private final LookupCache<String, MultisigAccountInfo> cache;
 
   /**
    * Constructor.
@@ -43,6 +47,7 @@ public class MultisigsCollection {
     catapultCollection =
         new CatapultCollection<>(
             context.getCatapultMongoDbClient(), "multisigs", MultisigAccountInfoMapper::new);
+    cache = context.createLookupCache();
     this.context = context;
   }
 
@@ -55,6 +60,31 @@ public class MultisigsCollection {
   public Optional<MultisigAccountInfo> findByAddress(final byte[] address) {
     final String keyName = "multisig.accountAddress";
     final int timeoutInSeconds = 10;
-    return catapultCollection.findOne(keyName, address, timeoutInSeconds);
+    return cache.get(
+        ConvertUtils.toHex(address),
+        () -> catapultCollection.findOne(keyName, address, timeoutInSeconds));
+  }
+
+  /**
+   * Removes a multisig account from the lookup cache.
+   *
+   * @param address Account address.
+   */
+  public void invalidate(final byte[] address) {
+    cache.invalidate(ConvertUtils.toHex(address));
+  }
+
+  /** Removes all the multisig accounts from the lookup cache. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Gets the lookup cache.
+   *
+   * @return Lookup cache.
+   */
+  public LookupCache<String, MultisigAccountInfo> getLookupCache() {
+    return cache;
   }
 }
@@ -22,6 +22,7 @@ package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongo
 
 import com.mongodb.client.model.Filters;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.LookupCache;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.NamespacesMapper;
 import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
 import org.bson.Document;
@@ -36,6 +37,8 @@ public class NamespacesCollection {
   final DataAccessContext context;
   /** Catapult collection */
   private final CatapultCollection<NamespaceInfo, NamespacesMapper> catapultCollection;
+  /* Namespaces by id. */
+  private final LookupCache<Long, NamespaceInfo> cache;
 
   /**
    * Constructor.
@@ -47,6 +50,7 @@ public class NamespacesCollection {
     catapultCollection =
         new CatapultCollection<>(
             context.getCatapultMongoDbClient(), "namespaces", NamespacesMapper::new);
+    cache = context.createLookupCache();
   }
 
   /**
@@ -67,6 +71,34 @@ public class NamespacesCollection {
    * @return Namespace info.
    */
   public Optional<NamespaceInfo> findById(final long namespaceId, final int timeoutInSeconds) {
+    return cache.get(namespaceId, () -> findActiveById(namespaceId, timeoutInSeconds));
+  }
+
+  /**
+   * Removes a namespace from the lookup cache.
+   *
+   * @param namespaceId Namespace id.
+   */
+  public void invalidate(final long namespaceId) {
+    cache.invalidate(namespaceId);
+  }
+
+  /** Removes all the namespaces from the lookup cache. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Gets the lookup cache.
+   *
+   * @return Lookup cache.
+   */
+  public LookupCache<Long, NamespaceInfo> getLookupCache() {
+    return cache;
+  }
+
+  private Optional<NamespaceInfo> findActiveById(
+      final long namespaceId, final int timeoutInSeconds) {
     final String keyLevelName = "namespace.level";
     final String keyDepthName = "namespace.depth";
     final int maxDepth = 3;
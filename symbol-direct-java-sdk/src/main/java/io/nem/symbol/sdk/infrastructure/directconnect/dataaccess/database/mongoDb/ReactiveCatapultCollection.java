@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.CatapultMongoDbClient;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.JsonObjectMapper;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.vertx.core.json.JsonObject;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Catapult mongodb collection on the reactive streams driver. Queries do not hold a thread while
+ * they wait for the database.
+ *
+ * @param <T> Type of object to return.
+ * @param <U> Mapper type.
+ */
+class ReactiveCatapultCollection<T, U extends Function<JsonObject, T>> {
+  /* Wait between queries while a document is not found. */
+  private static final long POLL_WAIT_IN_MILLISECONDS = 1000;
+  /* Mongo collection. */
+  private final MongoCollection<Document> mongoCollection;
+  /* Mapper object, created once since mappers have no mutable state. */
+  private final Supplier<U> mapper;
+
+  /**
+   * Constructor.
+   *
+   * @param client Database client.
+   * @param collectionName Collection name.
+   * @param mapper Mapper to convert the result.
+   */
+  ReactiveCatapultCollection(
+      final CatapultMongoDbClient client, final String collectionName, final Supplier<U> mapper) {
+    this.mapper = CatapultCollection.memoize(mapper);
+    this.mongoCollection = client.getReactiveDatabase().getCollection(collectionName);
+  }
+
+  /**
+   * Find documents.
+   *
+   * @param queryParams Query parameter.
+   * @return Flowable of T.
+   */
+  public Flowable<T> find(final Bson queryParams) {
+    return Flowable.defer(
+        () -> {
+          final U resultMapper = mapper.get();
+          return Flowable.fromPublisher(mongoCollection.find(queryParams))
+              .map(new JsonObjectMapper()::apply)
+              .map(resultMapper::apply);
+        });
+  }
+
+  /**
+   * Find one document, querying again until it exists or the timeout expires.
+   *
+   * @param queryParams Query parameter.
+   * @param timeoutInSeconds Timeout in seconds.
+   * @return Maybe of T, empty if not found.
+   */
+  public Maybe<T> findOne(final Bson queryParams, final int timeoutInSeconds) {
+    final Flowable<Document> first =
+        Flowable.defer(() -> Flowable.fromPublisher(mongoCollection.find(queryParams).first()));
+    final Flowable<Document> documents =
+        timeoutInSeconds <= 0
+            ? first
+            : first
+                .repeatWhen(
+                    completed -> completed.delay(POLL_WAIT_IN_MILLISECONDS, TimeUnit.MILLISECONDS))
+                .takeUntil(Flowable.timer(timeoutInSeconds, TimeUnit.SECONDS));
+    return documents
+        .firstElement()
+        .map(new JsonObjectMapper()::apply)
+        .map(jsonObject -> mapper.get().apply(jsonObject));
+  }
+
+  /**
+   * Find one document.
+   *
+   * @param keyName Key name.
+   * @param keyValue Key value.
+   * @param timeoutInSeconds Timeout in seconds.
+   * @return Maybe of T, empty if not found.
+   */
+  public <P> Maybe<T> findOne(final String keyName, final P keyValue, final int timeoutInSeconds) {
+    return findOne(Filters.eq(keyName, keyValue), timeoutInSeconds);
+  }
+}
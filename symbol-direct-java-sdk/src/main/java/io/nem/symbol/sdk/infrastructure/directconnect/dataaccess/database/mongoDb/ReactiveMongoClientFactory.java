@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import java.util.HashMap;
+
+/** Mongo database reactive streams client factory. */
+public final class ReactiveMongoClientFactory {
+  /** Map of connections. */
+  private static final HashMap<String, MongoClient> mongoClientHashMap = new HashMap<>();
+
+  /** Constructor. */
+  private ReactiveMongoClientFactory() {}
+
+  /**
+   * Create a Mongo database reactive streams connection.
+   *
+   * @param hostname Mongo database host.
+   * @param port Mongo database port.
+   * @return MongoDB client.
+   */
+  public static synchronized MongoClient Create(final String hostname, final int port) {
+    return mongoClientHashMap.computeIfAbsent(
+        hostname + port, key -> MongoClients.create("mongodb://" + hostname + ":" + port));
+  }
+}
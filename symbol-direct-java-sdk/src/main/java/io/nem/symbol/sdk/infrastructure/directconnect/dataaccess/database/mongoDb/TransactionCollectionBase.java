@@ -22,6 +22,7 @@ package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongo
 
 import com.mongodb.client.model.Filters;
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.SearchableTransactionCollection;
@@ -31,15 +32,21 @@ import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.MapperU
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.TransactionMapper;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.transaction.*;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.bson.types.Binary;
+import org.bson.types.ObjectId;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /** Transaction collection base. */
@@ -66,18 +73,53 @@ public abstract class TransactionCollectionBase
   }
 
   private void addInnerTransactions(final Transaction transaction) {
-    if (AGGREGATE_TRANSACTION_TYPES.contains(transaction.getType())) {
-      final AggregateTransaction aggregateTransaction = (AggregateTransaction) transaction;
-      final List<Transaction> innerTransaction =
-          findDependentTransactions(
-              aggregateTransaction.getTransactionInfo().get().getHash().get(),
-              context.getDatabaseTimeoutInSeconds());
-      aggregateTransaction.getInnerTransactions().addAll(innerTransaction);
-    }
+    addInnerTransactions(Collections.singletonList(transaction));
   }
 
-  private List<Transaction> addInnerTransactions(final List<Transaction> transactions) {
-    transactions.parallelStream().forEach(t -> addInnerTransactions(t));
+  /**
+   * Adds the inner transactions to the aggregates in the list. The embedded transactions for all
+   * the aggregates are read with a single query and grouped by aggregate hash. Aggregates whose
+   * embedded transactions are not stored yet fall back to waiting on their own query.
+   *
+   * @param transactions List of transactions.
+   * @return List of transactions.
+   */
+  protected List<Transaction> addInnerTransactions(final List<Transaction> transactions) {
+    final Map<String, AggregateTransaction> aggregateTransactions = new HashMap<>();
+    for (final Transaction transaction : transactions) {
+      if (AGGREGATE_TRANSACTION_TYPES.contains(transaction.getType())) {
+        aggregateTransactions.put(
+            transaction.getTransactionInfo().get().getHash().get(),
+            (AggregateTransaction) transaction);
+      }
+    }
+    if (aggregateTransactions.isEmpty()) {
+      return transactions;
+    }
+
+    final List<Binary> aggregateHashes =
+        CatapultCollection.toBinaries(new ArrayList<>(aggregateTransactions.keySet()));
+    final List<Transaction> innerTransactions =
+        catapultCollection.ConvertResult(
+            catapultCollection.find(Filters.in("meta.aggregateHash", aggregateHashes)),
+            new EmbeddedTransactionMapper());
+    final Map<String, List<Transaction>> innerTransactionsByHash =
+        innerTransactions.stream()
+            .collect(
+                Collectors.groupingBy(
+                    t -> t.getTransactionInfo().get().getAggregateHash().get()));
+
+    for (final Map.Entry<String, AggregateTransaction> entry : aggregateTransactions.entrySet()) {
+      final List<Transaction> innerTransaction = innerTransactionsByHash.get(entry.getKey());
+      entry
+          .getValue()
+          .getInnerTransactions()
+          .addAll(
+              innerTransaction != null
+                  ? innerTransaction
+                  : findDependentTransactions(
+                      entry.getKey(), context.getDatabaseTimeoutInSeconds()));
+    }
     return transactions;
   }
 
@@ -96,6 +138,15 @@ public abstract class TransactionCollectionBase
         keyName, keyValueBytes, new EmbeddedTransactionMapper(), timeoutInSeconds);
   }
 
+  /**
+   * Gets the number of transactions in the collection.
+   *
+   * @return Transaction count.
+   */
+  public long count() {
+    return catapultCollection.count();
+  }
+
   /**
    * Find Transaction by hash.
    *
@@ -113,14 +164,32 @@ public abstract class TransactionCollectionBase
    * @return {@link Observable} of {@link Transaction} List
    */
   public List<Transaction> getTransactions(final List<String> transactionHashes) {
+    final Map<String, Transaction> transactions =
+        findByHashes(transactionHashes).stream()
+            .collect(
+                Collectors.toMap(
+                    t -> t.getTransactionInfo().get().getHash().get().toUpperCase(),
+                    Function.identity(),
+                    (a, b) -> a));
+    addInnerTransactions(new ArrayList<>(transactions.values()));
     return transactionHashes.stream()
-        .parallel()
-        .map(s -> getTransaction(s))
-        .filter(f -> f.isPresent())
-        .map(f -> f.get())
+        .map(hash -> transactions.get(hash.toUpperCase()))
+        .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
+  /**
+   * Find transactions for a list of hashes with a single query. Inner transactions are not added.
+   *
+   * @param transactionHashes Transaction hashes.
+   * @return List of transactions found.
+   */
+  private List<Transaction> findByHashes(final List<String> transactionHashes) {
+    return catapultCollection.ConvertResult(
+        catapultCollection.find(
+            Filters.in("meta.hash", CatapultCollection.toBinaries(transactionHashes))));
+  }
+
   /**
    * Find Transaction by hash.
    *
@@ -148,20 +217,32 @@ public abstract class TransactionCollectionBase
    */
   @Override
   public Optional<TransactionStatus> getStatus(final String hash) {
-    final Optional<Transaction> transactionOptional = findByHash(hash, 0);
-    if (transactionOptional.isPresent()) {
-      final Transaction transaction = transactionOptional.get();
-      final TransactionInfo transactionInfo = transaction.getTransactionInfo().get();
-      final TransactionStatus status =
-          new TransactionStatus(
-              TransactionState.valueOf(getGroupStatus().toUpperCase()),
-              "Success",
-              transactionInfo.getHash().get(),
-              transaction.getDeadline(),
-              transactionInfo.getHeight());
-      return Optional.of(status);
-    }
-    return Optional.empty();
+    return findByHash(hash, 0).map(this::toStatus);
+  }
+
+  /**
+   * Gets the transaction statuses for a list of hashes with a single query.
+   *
+   * @param hashes Transaction hashes.
+   * @return Map of upper case transaction hash to status for the hashes found.
+   */
+  @Override
+  public Map<String, TransactionStatus> getStatuses(final List<String> hashes) {
+    return findByHashes(hashes).stream()
+        .map(this::toStatus)
+        .collect(
+            Collectors.toMap(
+                status -> status.getHash().toUpperCase(), Function.identity(), (a, b) -> a));
+  }
+
+  private TransactionStatus toStatus(final Transaction transaction) {
+    final TransactionInfo transactionInfo = transaction.getTransactionInfo().get();
+    return new TransactionStatus(
+        TransactionState.valueOf(getGroupStatus().toUpperCase()),
+        "Success",
+        transactionInfo.getHash().get(),
+        transaction.getDeadline(),
+        transactionInfo.getHeight());
   }
 
   /**
@@ -172,6 +253,17 @@ public abstract class TransactionCollectionBase
    * @return Transaction.
    */
   public List<Transaction> findBySigner(final byte[] publicBytes, final byte[] addressBytes) {
+    return streamBySigner(publicBytes, addressBytes).toList().blockingGet();
+  }
+
+  /**
+   * Streams the transactions for a signer without loading the whole result set.
+   *
+   * @param publicBytes Public bytes.
+   * @param addressBytes Address bytes.
+   * @return Flowable of transactions.
+   */
+  public Flowable<Transaction> streamBySigner(final byte[] publicBytes, final byte[] addressBytes) {
     final String publicKeyName = "transaction.signerPublicKey";
     final Bson signerFilters =
         Filters.and(
@@ -179,10 +271,10 @@ public abstract class TransactionCollectionBase
             Filters.exists("meta.hash"));
     final String addressKeyName = "meta.addresses";
     final Bson addressFilter = Filters.eq(addressKeyName, new Binary((byte) 0, addressBytes));
-    final List<Document> results =
-        catapultCollection.find(
-            Filters.or(signerFilters, addressFilter), context.getDatabaseTimeoutInSeconds());
-    return addInnerTransactions(catapultCollection.ConvertResult(results));
+    return catapultCollection
+        .findFlowable(Filters.or(signerFilters, addressFilter))
+        .buffer(CatapultCollection.DEFAULT_BATCH_SIZE)
+        .concatMapIterable(this::addInnerTransactions);
   }
 
   private byte[] getAddressBytes(final Address address) {
@@ -220,9 +312,13 @@ public abstract class TransactionCollectionBase
    * @param criteria the criteria
    * @return a page of entities.
    */
-  public List<Transaction> search(final TransactionSearchCriteria criteria) {
+  public Page<Transaction> search(final TransactionSearchCriteria criteria) {
     final Bson filters = toSearchCriteria(criteria);
-
-    return catapultCollection.findR(filters, context.getDatabaseTimeoutInSeconds());
+    final ObjectId offset = criteria.getOffset() == null ? null : new ObjectId(criteria.getOffset());
+    final Page<Transaction> page =
+        catapultCollection.findPage(
+            filters, "_id", offset, criteria, context.getDatabaseTimeoutInSeconds());
+    addInnerTransactions(page.getData());
+    return page;
   }
 }
@@ -20,13 +20,18 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
+import com.mongodb.client.model.Filters;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.common.TransactionCurrentState;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.TransactionStatusMapper;
 import io.nem.symbol.sdk.model.transaction.TransactionStatus;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /** Transaction statuses collection. */
 public class TransactionCurrentStatusesCollection implements TransactionCurrentState {
@@ -74,6 +79,24 @@ public class TransactionCurrentStatusesCollection implements TransactionCurrentS
     return findOne(hash, 0);
   }
 
+  /**
+   * Gets the transaction statuses for a list of hashes with a single query.
+   *
+   * @param hashes Transaction hashes.
+   * @return Map of upper case transaction hash to status for the hashes found.
+   */
+  @Override
+  public Map<String, TransactionStatus> getStatuses(final List<String> hashes) {
+    final List<TransactionStatus> statuses =
+        catapultCollection.ConvertResult(
+            catapultCollection.find(
+                Filters.in("status.hash", CatapultCollection.toBinaries(hashes))));
+    return statuses.stream()
+        .collect(
+            Collectors.toMap(
+                status -> status.getHash().toUpperCase(), Function.identity(), (a, b) -> a));
+  }
+
   /**
    * Returns transaction status group "failed", "unconfirmed", "confirmed", etc...
    *
@@ -20,8 +20,11 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb;
 
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import org.bson.conversions.Bson;
 
 import java.util.List;
 
@@ -47,6 +50,30 @@ public class TransactionsCollection extends TransactionCollectionBase {
     return catapultCollection.find(keyName, blockHeight, context.getDatabaseTimeoutInSeconds());
   }
 
+  /**
+   * Finds the transactions for a range of blocks with a single query, sorted by height and index.
+   * It does not wait for transactions to be stored, since most blocks have none.
+   *
+   * @param fromHeight First block height.
+   * @param toHeight Block height after the last one.
+   * @return List of transactions with their inner transactions.
+   */
+  public List<Transaction> findByBlockHeights(final long fromHeight, final long toHeight) {
+    final String keyName = "meta.height";
+    final Bson queryParams =
+        Filters.and(Filters.gte(keyName, fromHeight), Filters.lt(keyName, toHeight));
+    final List<Transaction> transactions =
+        catapultCollection
+            .findFlowable(
+                queryParams,
+                null,
+                Sorts.ascending(keyName, "meta.index"),
+                CatapultCollection.DEFAULT_BATCH_SIZE)
+            .toList()
+            .blockingGet();
+    return addInnerTransactions(transactions);
+  }
+
   /**
    * Gets transaction status group.
    *
@@ -23,13 +23,18 @@ package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.FullBlockInfo;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.vertx.core.json.JsonObject;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
 
 import java.math.BigInteger;
 import java.util.List;
 import java.util.function.Function;
 
 /** Blocks info mapper */
-public class BlocksInfoMapper implements Function<JsonObject, FullBlockInfo> {
+public class BlocksInfoMapper
+    implements Function<JsonObject, FullBlockInfo>, RawBsonDocumentMapper<FullBlockInfo> {
   /**
    * Converts a json object to block info.
    *
@@ -98,4 +103,193 @@ public class BlocksInfoMapper implements Function<JsonObject, FullBlockInfo> {
         proofVerificationHash,
         proofScalar);
   }
+
+  /**
+   * Converts a raw document to block info, keeping the binary values as bytes.
+   *
+   * @param document Raw document.
+   * @return Block info.
+   */
+  @Override
+  public FullBlockInfo map(final RawBsonDocument document) {
+    final BlockFields fields = new BlockFields();
+    try (final BsonBinaryReader reader = BsonReaderUtils.createReader(document)) {
+      reader.readStartDocument();
+      while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+        switch (reader.readName()) {
+          case "_id":
+            fields.recordId = reader.readObjectId().toHexString();
+            break;
+          case "meta":
+            readMeta(reader, fields);
+            break;
+          case "block":
+            readBlock(reader, fields);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.readEndDocument();
+    }
+    return FullBlockInfo.createFromBytes(
+        fields.recordId,
+        MapperUtils.toUnsignedLong(fields.size),
+        fields.hash,
+        fields.generationHash,
+        fields.totalFee,
+        fields.numTransactions,
+        fields.numStatements,
+        fields.stateHashSubCacheMerkleRoots,
+        fields.statementMerkleTree,
+        fields.transactionMerkleTree,
+        fields.signature,
+        fields.signerPublicKey,
+        fields.networkType,
+        fields.version,
+        fields.type,
+        fields.height,
+        fields.timestamp,
+        fields.difficulty,
+        MapperUtils.toUnsignedLong(fields.feeMultiplier),
+        fields.previousBlockHash,
+        fields.transactionsHash,
+        fields.receiptsHash,
+        fields.stateHash,
+        fields.beneficiaryAddress,
+        fields.proofGamma,
+        fields.proofVerificationHash,
+        fields.proofScalar);
+  }
+
+  private static void readMeta(final BsonReader reader, final BlockFields fields) {
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      switch (reader.readName()) {
+        case "hash":
+          fields.hash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "generationHash":
+          fields.generationHash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "totalFee":
+          fields.totalFee = BsonReaderUtils.readBigInteger(reader);
+          break;
+        case "numTransactions":
+          fields.numTransactions = (int) BsonReaderUtils.readLong(reader);
+          break;
+        case "numStatements":
+          fields.numStatements = (int) BsonReaderUtils.readLong(reader);
+          break;
+        case "stateHashSubCacheMerkleRoots":
+          fields.stateHashSubCacheMerkleRoots = BsonReaderUtils.readBinaryList(reader);
+          break;
+        case "transactionMerkleTree":
+          fields.transactionMerkleTree = BsonReaderUtils.readBinaryList(reader);
+          break;
+        case "statementMerkleTree":
+          fields.statementMerkleTree = BsonReaderUtils.readBinaryList(reader);
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.readEndDocument();
+  }
+
+  private static void readBlock(final BsonReader reader, final BlockFields fields) {
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      switch (reader.readName()) {
+        case "size":
+          fields.size = (int) BsonReaderUtils.readLong(reader);
+          break;
+        case "signature":
+          fields.signature = BsonReaderUtils.readBinary(reader);
+          break;
+        case "signerPublicKey":
+          fields.signerPublicKey = BsonReaderUtils.readBinary(reader);
+          break;
+        case "version":
+          fields.version = (int) BsonReaderUtils.readLong(reader);
+          break;
+        case "network":
+          fields.networkType = NetworkType.rawValueOf((int) BsonReaderUtils.readLong(reader));
+          break;
+        case "type":
+          fields.type = (int) BsonReaderUtils.readLong(reader);
+          break;
+        case "height":
+          fields.height = BsonReaderUtils.readBigInteger(reader);
+          break;
+        case "timestamp":
+          fields.timestamp = BsonReaderUtils.readBigInteger(reader);
+          break;
+        case "difficulty":
+          fields.difficulty = BsonReaderUtils.readBigInteger(reader);
+          break;
+        case "feeMultiplier":
+          fields.feeMultiplier = (int) BsonReaderUtils.readLong(reader);
+          break;
+        case "previousBlockHash":
+          fields.previousBlockHash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "transactionsHash":
+          fields.transactionsHash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "receiptsHash":
+          fields.receiptsHash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "stateHash":
+          fields.stateHash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "beneficiaryAddress":
+          fields.beneficiaryAddress = BsonReaderUtils.readBinary(reader);
+          break;
+        case "proofGamma":
+          fields.proofGamma = BsonReaderUtils.readBinary(reader);
+          break;
+        case "proofVerificationHash":
+          fields.proofVerificationHash = BsonReaderUtils.readBinary(reader);
+          break;
+        case "proofScalar":
+          fields.proofScalar = BsonReaderUtils.readBinary(reader);
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.readEndDocument();
+  }
+
+  /** Block values read so far. */
+  private static class BlockFields {
+    String recordId;
+    byte[] hash;
+    byte[] generationHash;
+    BigInteger totalFee;
+    Integer numTransactions;
+    Integer numStatements;
+    List<byte[]> stateHashSubCacheMerkleRoots;
+    List<byte[]> transactionMerkleTree;
+    List<byte[]> statementMerkleTree;
+    Integer size;
+    byte[] signature;
+    byte[] signerPublicKey;
+    Integer version;
+    NetworkType networkType;
+    int type;
+    BigInteger height;
+    BigInteger timestamp;
+    BigInteger difficulty;
+    Integer feeMultiplier;
+    byte[] previousBlockHash;
+    byte[] transactionsHash;
+    byte[] receiptsHash;
+    byte[] stateHash;
+    byte[] beneficiaryAddress;
+    byte[] proofGamma;
+    byte[] proofVerificationHash;
+    byte[] proofScalar;
+  }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.io.ByteBufferBsonInput;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Reads catapult values with a bson reader. */
+final class BsonReaderUtils {
+
+  private BsonReaderUtils() {}
+
+  /**
+   * Creates a reader over the document bytes.
+   *
+   * @param document Raw document.
+   * @return Bson reader, to be closed.
+   */
+  static BsonBinaryReader createReader(final RawBsonDocument document) {
+    return new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer()));
+  }
+
+  /**
+   * Reads an integer value of any width.
+   *
+   * @param reader Bson reader.
+   * @return Long value.
+   */
+  static long readLong(final BsonReader reader) {
+    switch (reader.getCurrentBsonType()) {
+      case INT32:
+        return reader.readInt32();
+      case INT64:
+        return reader.readInt64();
+      case DOUBLE:
+        return (long) reader.readDouble();
+      default:
+        throw new IllegalStateException(
+            "Expected a number but got " + reader.getCurrentBsonType());
+    }
+  }
+
+  /**
+   * Reads an integer value of any width.
+   *
+   * @param reader Bson reader.
+   * @return BigInteger value.
+   */
+  static BigInteger readBigInteger(final BsonReader reader) {
+    return BigInteger.valueOf(readLong(reader));
+  }
+
+  /**
+   * Reads a binary value.
+   *
+   * @param reader Bson reader.
+   * @return Bytes, null if the value is null.
+   */
+  static byte[] readBinary(final BsonReader reader) {
+    if (reader.getCurrentBsonType() == BsonType.NULL) {
+      reader.readNull();
+      return null;
+    }
+    return reader.readBinaryData().getData();
+  }
+
+  /**
+   * Reads an array of binary values.
+   *
+   * @param reader Bson reader.
+   * @return List of bytes.
+   */
+  static List<byte[]> readBinaryList(final BsonReader reader) {
+    final List<byte[]> values = new ArrayList<>();
+    reader.readStartArray();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      values.add(readBinary(reader));
+    }
+    reader.readEndArray();
+    return values;
+  }
+}
@@ -20,6 +20,7 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.Transaction;
@@ -48,4 +49,20 @@ public class EmbeddedTransactionMapper extends TransactionMapper
         new PublicAccount(transaction.getString("signerPublicKey"), networkType);
     return factory.signer(signer).version(version).build();
   }
+
+  /**
+   * Gets the common properties for all transactions read from a raw document.
+   *
+   * @param factory Transaction factory.
+   * @param rawTransaction Transaction values.
+   * @return Transaction.
+   */
+  @Override
+  protected <T extends Transaction> T appendCommonPropertiesAndBuildTransaction(
+      final TransactionFactory<T> factory, final RawTransaction rawTransaction) {
+    final PublicAccount signer =
+        new PublicAccount(
+            ConvertUtils.toHex(rawTransaction.signerPublicKey), rawTransaction.networkType);
+    return factory.signer(signer).version(rawTransaction.version).build();
+  }
 }
@@ -21,14 +21,23 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers;
 
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.bson.Document;
-import org.bson.json.JsonMode;
-import org.bson.json.JsonWriterSettings;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
-/** Document to JsonObject mapper */
+/**
+ * Document to JsonObject mapper. The document tree is copied straight into the json object, giving
+ * the same values as the relaxed json output with binaries converted to hex, without writing and
+ * parsing a json string.
+ */
 public class JsonObjectMapper implements Function<Document, JsonObject> {
   /**
    * Converts a document to a json object.
@@ -38,13 +47,52 @@ public class JsonObjectMapper implements Function<Document, JsonObject> {
    */
   @Override
   public JsonObject apply(final Document document) {
-    final String json =
-        document.toJson(
-            JsonWriterSettings.builder()
-                .binaryConverter(
-                    (value, writer) -> writer.writeString(ConvertUtils.toHex(value.getData())))
-                .outputMode(JsonMode.RELAXED)
-                .build());
-    return new JsonObject(json);
+    return toJsonObject(document);
+  }
+
+  private static JsonObject toJsonObject(final Map<String, Object> document) {
+    final JsonObject jsonObject = new JsonObject();
+    for (final Map.Entry<String, Object> entry : document.entrySet()) {
+      jsonObject.put(entry.getKey(), toJsonValue(entry.getValue()));
+    }
+    return jsonObject;
+  }
+
+  private static JsonArray toJsonArray(final List<?> list) {
+    final JsonArray jsonArray = new JsonArray();
+    for (final Object value : list) {
+      jsonArray.add(toJsonValue(value));
+    }
+    return jsonArray;
+  }
+
+  private static Object toJsonValue(final Object value) {
+    if (value == null
+        || value instanceof String
+        || value instanceof Integer
+        || value instanceof Long
+        || value instanceof Double
+        || value instanceof Boolean) {
+      return value;
+    }
+    if (value instanceof Binary) {
+      return ConvertUtils.toHex(((Binary) value).getData());
+    }
+    if (value instanceof Document) {
+      return toJsonObject((Document) value);
+    }
+    if (value instanceof List) {
+      return toJsonArray((List<?>) value);
+    }
+    if (value instanceof ObjectId) {
+      return new JsonObject().put("$oid", ((ObjectId) value).toHexString());
+    }
+    if (value instanceof Date) {
+      return new JsonObject().put("$date", ((Date) value).toInstant().toString());
+    }
+    if (value instanceof Decimal128) {
+      return new JsonObject().put("$numberDecimal", value.toString());
+    }
+    return value.toString();
   }
 }
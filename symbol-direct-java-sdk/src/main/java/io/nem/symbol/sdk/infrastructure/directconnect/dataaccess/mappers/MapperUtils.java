@@ -125,7 +125,8 @@ public final class MapperUtils {
   }
 
     public static String toRecordId(final JsonObject jsonObject) {
-        return jsonObject.getString("_id.$oid");
+        final JsonObject id = jsonObject.getJsonObject("_id");
+        return id == null ? null : id.getString("$oid");
     }
 
     /**
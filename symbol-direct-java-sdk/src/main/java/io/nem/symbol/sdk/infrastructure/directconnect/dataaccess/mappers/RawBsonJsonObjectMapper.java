@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.io.ByteBufferBsonInput;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Raw bson document to JsonObject mapper. The document bytes are read once with a bson reader
+ * straight into the json object the domain mappers take, without decoding them into a document
+ * tree first. Values have the same shape as {@link JsonObjectMapper}.
+ */
+public class RawBsonJsonObjectMapper implements Function<RawBsonDocument, JsonObject> {
+  /**
+   * Converts a raw document to a json object.
+   *
+   * @param document raw document to convert.
+   * @return Json Object.
+   */
+  @Override
+  public JsonObject apply(final RawBsonDocument document) {
+    try (final BsonBinaryReader reader =
+        new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer()))) {
+      return readDocument(reader);
+    }
+  }
+
+  private static JsonObject readDocument(final BsonReader reader) {
+    final JsonObject jsonObject = new JsonObject();
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      final String name = reader.readName();
+      jsonObject.put(name, readValue(reader));
+    }
+    reader.readEndDocument();
+    return jsonObject;
+  }
+
+  private static JsonArray readArray(final BsonReader reader) {
+    final JsonArray jsonArray = new JsonArray();
+    reader.readStartArray();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      jsonArray.add(readValue(reader));
+    }
+    reader.readEndArray();
+    return jsonArray;
+  }
+
+  private static Object readValue(final BsonReader reader) {
+    switch (reader.getCurrentBsonType()) {
+      case DOCUMENT:
+        return readDocument(reader);
+      case ARRAY:
+        return readArray(reader);
+      case STRING:
+        return reader.readString();
+      case INT32:
+        return reader.readInt32();
+      case INT64:
+        return reader.readInt64();
+      case DOUBLE:
+        return reader.readDouble();
+      case BOOLEAN:
+        return reader.readBoolean();
+      case BINARY:
+        return ConvertUtils.toHex(reader.readBinaryData().getData());
+      case OBJECT_ID:
+        return new JsonObject().put("$oid", reader.readObjectId().toHexString());
+      case DATE_TIME:
+        return new JsonObject()
+            .put("$date", Instant.ofEpochMilli(reader.readDateTime()).toString());
+      case DECIMAL128:
+        return new JsonObject().put("$numberDecimal", reader.readDecimal128().toString());
+      case NULL:
+        reader.readNull();
+        return null;
+      default:
+        reader.skipValue();
+        return null;
+    }
+  }
+}
@@ -21,6 +21,7 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers;
 
 import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.crypto.VotingKey;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
@@ -36,6 +37,11 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.*;
 import io.vertx.core.json.JsonObject;
 import org.bouncycastle.util.encoders.Hex;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -47,7 +53,8 @@ import java.util.stream.Collectors;
 /**
  * Transaction mapper.
  */
-public class TransactionMapper implements Function<JsonObject, Transaction> {
+public class TransactionMapper
+        implements Function<JsonObject, Transaction>, RawBsonDocumentMapper<Transaction> {
 
     private TransactionMapperBase resolveTransactionFactory(final JsonObject jsonObject) {
         JsonObject transaction = jsonObject.getJsonObject("transaction");
@@ -178,6 +185,230 @@ public class TransactionMapper implements Function<JsonObject, Transaction> {
     public Transaction apply(final JsonObject jsonObject) {
         return createTransaction(jsonObject);
     }
+
+    /**
+     * Converts a raw document to a transaction. Transfers, the bulk of most scans, are read in one
+     * pass over the document bytes. The other types go through the json object.
+     *
+     * @param document Raw document.
+     * @return Transaction.
+     */
+    @Override
+    public Transaction map(final RawBsonDocument document) {
+        final BsonValue type = document.getDocument("transaction").get("type");
+        if (type == null
+                || !type.isNumber()
+                || TransactionType.rawValueOf((short) type.asNumber().intValue())
+                        != TransactionType.TRANSFER) {
+            return apply(new RawBsonJsonObjectMapper().apply(document));
+        }
+        final RawTransaction rawTransaction = new RawTransaction();
+        try (final BsonBinaryReader reader = BsonReaderUtils.createReader(document)) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                switch (reader.readName()) {
+                    case "meta":
+                        readMeta(reader, rawTransaction);
+                        break;
+                    case "transaction":
+                        readTransaction(reader, rawTransaction);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+        }
+        final TransferTransactionFactory factory =
+                TransferTransactionFactory.create(
+                        rawTransaction.networkType,
+                        io.nem.symbol.core.utils.MapperUtils.toUnresolvedAddress(
+                                ConvertUtils.toHex(rawTransaction.recipientAddress)),
+                        rawTransaction.mosaics,
+                        rawTransaction.message);
+        return appendCommonPropertiesAndBuildTransaction(factory, rawTransaction);
+    }
+
+    /**
+     * Gets the common properties for all transactions read from a raw document.
+     *
+     * @param factory        Transaction factory.
+     * @param rawTransaction Transaction values.
+     * @return Transaction.
+     */
+    protected <T extends Transaction> T appendCommonPropertiesAndBuildTransaction(
+            final TransactionFactory<T> factory, final RawTransaction rawTransaction) {
+        return factory
+                .transactionInfo(createTransactionInfo(rawTransaction))
+                .signer(
+                        new PublicAccount(
+                                ConvertUtils.toHex(rawTransaction.signerPublicKey),
+                                rawTransaction.networkType))
+                .deadline(new Deadline(rawTransaction.deadline))
+                .version(rawTransaction.version)
+                .maxFee(rawTransaction.maxFee)
+                .signature(ConvertUtils.toHex(rawTransaction.signature))
+                .build();
+    }
+
+    private static TransactionInfo createTransactionInfo(final RawTransaction rawTransaction) {
+        if (rawTransaction.hash != null) {
+            return TransactionInfo.create(
+                    rawTransaction.height,
+                    rawTransaction.index,
+                    "",
+                    ConvertUtils.toHex(rawTransaction.hash),
+                    toHex(rawTransaction.merkleComponentHash));
+        } else if (rawTransaction.aggregateHash != null) {
+            return TransactionInfo.createAggregate(
+                    rawTransaction.height,
+                    rawTransaction.index,
+                    "",
+                    ConvertUtils.toHex(rawTransaction.aggregateHash),
+                    rawTransaction.aggregateId);
+        } else {
+            return TransactionInfo.create(
+                    rawTransaction.height, null, toHex(rawTransaction.merkleComponentHash));
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        return bytes == null ? null : ConvertUtils.toHex(bytes);
+    }
+
+    private static void readMeta(final BsonReader reader, final RawTransaction rawTransaction) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "height":
+                    rawTransaction.height = BsonReaderUtils.readBigInteger(reader);
+                    break;
+                case "index":
+                    rawTransaction.index = (int) BsonReaderUtils.readLong(reader);
+                    break;
+                case "hash":
+                    rawTransaction.hash = BsonReaderUtils.readBinary(reader);
+                    break;
+                case "merkleComponentHash":
+                    rawTransaction.merkleComponentHash = BsonReaderUtils.readBinary(reader);
+                    break;
+                case "aggregateHash":
+                    rawTransaction.aggregateHash = BsonReaderUtils.readBinary(reader);
+                    break;
+                case "aggregateId":
+                    rawTransaction.aggregateId = reader.readObjectId().toHexString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    private static void readTransaction(
+            final BsonReader reader, final RawTransaction rawTransaction) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "signature":
+                    rawTransaction.signature = BsonReaderUtils.readBinary(reader);
+                    break;
+                case "signerPublicKey":
+                    rawTransaction.signerPublicKey = BsonReaderUtils.readBinary(reader);
+                    break;
+                case "version":
+                    rawTransaction.version = (int) BsonReaderUtils.readLong(reader);
+                    break;
+                case "network":
+                    rawTransaction.networkType =
+                            NetworkType.rawValueOf((int) BsonReaderUtils.readLong(reader));
+                    break;
+                case "maxFee":
+                    rawTransaction.maxFee = BsonReaderUtils.readBigInteger(reader);
+                    break;
+                case "deadline":
+                    rawTransaction.deadline = BsonReaderUtils.readBigInteger(reader);
+                    break;
+                case "recipientAddress":
+                    rawTransaction.recipientAddress = BsonReaderUtils.readBinary(reader);
+                    break;
+                case "mosaics":
+                    readMosaics(reader, rawTransaction.mosaics);
+                    break;
+                case "message":
+                    rawTransaction.message = readMessage(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    private static void readMosaics(final BsonReader reader, final List<Mosaic> mosaics) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            BigInteger id = null;
+            BigInteger amount = null;
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                switch (reader.readName()) {
+                    case "id":
+                        id = BsonReaderUtils.readBigInteger(reader);
+                        break;
+                    case "amount":
+                        amount = BsonReaderUtils.readBigInteger(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+            mosaics.add(new Mosaic(new MosaicId(id), amount));
+        }
+        reader.readEndArray();
+    }
+
+    private static Message readMessage(final BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+            reader.skipValue();
+            return PlainMessage.Empty;
+        }
+        byte[] payload = null;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if ("payload".equals(reader.readName())) {
+                payload = BsonReaderUtils.readBinary(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return payload == null
+                ? PlainMessage.Empty
+                : new PlainMessage(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Transaction values read from a raw document.
+     */
+    static class RawTransaction {
+        BigInteger height;
+        Integer index;
+        byte[] hash;
+        byte[] merkleComponentHash;
+        byte[] aggregateHash;
+        String aggregateId;
+        byte[] signature;
+        byte[] signerPublicKey;
+        Integer version;
+        NetworkType networkType;
+        BigInteger maxFee;
+        BigInteger deadline;
+        byte[] recipientAddress;
+        final List<Mosaic> mosaics = new ArrayList<>();
+        Message message = PlainMessage.Empty;
+    }
 }
 
 abstract class TransactionMapperBase<T extends Transaction> {
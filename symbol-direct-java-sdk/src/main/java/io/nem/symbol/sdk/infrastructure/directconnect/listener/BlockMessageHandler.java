@@ -29,10 +29,10 @@ import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.network.NetworkType;
-import org.zeromq.ZMQ.Socket;
 
 import java.math.BigInteger;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /** Handles the block message from the symbol server. */
@@ -40,15 +40,25 @@ public class BlockMessageHandler extends MessageBaseHandler {
   /**
    * Handle a message from the broker
    *
-   * @param subscriber Subscriber for the message
+   * @param frames Frames of the message after the topic frame
    */
   @Override
-  public BlockInfo handleMessage(final Socket subscriber) {
+  public BlockInfo handleMessage(final List<byte[]> frames) {
+    failIfFrameCountIsNot(frames, 3, "Block message is not correct.");
+    return new LazyBlockInfo(frames.get(0), () -> decode(frames));
+  }
+
+  /**
+   * Decodes all the fields of a block message.
+   *
+   * @param frames Frames of the message after the topic frame
+   * @return Block info.
+   */
+  BlockInfo decode(final List<byte[]> frames) {
     final BlockHeaderBuilder blockHeaderBuilder =
-        BlockHeaderBuilder.loadFromBinary(toInputStream(subscriber.recv()));
-    final Hash256Dto entityHash = Hash256Dto.loadFromBinary(toInputStream(subscriber.recv()));
-    final Hash256Dto generationHash = Hash256Dto.loadFromBinary(toInputStream(subscriber.recv()));
-    failIfMoreMessageAvailable(subscriber, "Block message is not correct.");
+        BlockHeaderBuilder.loadFromBinary(toInputStream(frames.get(0)));
+    final Hash256Dto entityHash = Hash256Dto.loadFromBinary(toInputStream(frames.get(1)));
+    final Hash256Dto generationHash = Hash256Dto.loadFromBinary(toInputStream(frames.get(2)));
 
     final String entityHashHex = ConvertUtils.toHex(entityHash.getHash256().array());
     final String generationHashHex = ConvertUtils.toHex(generationHash.getHash256().array());
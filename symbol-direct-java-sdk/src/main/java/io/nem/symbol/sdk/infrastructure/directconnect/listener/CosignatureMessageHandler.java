@@ -23,22 +23,21 @@ package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 import io.nem.symbol.catapult.builders.DetachedCosignatureBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
-import org.zeromq.ZMQ.Socket;
-
 import java.math.BigInteger;
+import java.util.List;
 
 /** Handle the transaction cosignature message from the server. */
 public class CosignatureMessageHandler extends MessageBaseHandler {
   /**
    * Handle a message from the broker
    *
-   * @param subscriber Subscriber for the message
+   * @param frames Frames of the message after the topic frame
    */
   @Override
-  public CosignatureSignedTransaction handleMessage(final Socket subscriber) {
+  public CosignatureSignedTransaction handleMessage(final List<byte[]> frames) {
+    failIfFrameCountIsNot(frames, 1, "Detached cosignature message is not correct.");
     final DetachedCosignatureBuilder detachedCosignatureBuilder =
-        DetachedCosignatureBuilder.loadFromBinary(toInputStream(subscriber.recv()));
-    failIfMoreMessageAvailable(subscriber, "Detached cosignature message is not correct.");
+        DetachedCosignatureBuilder.loadFromBinary(toInputStream(frames.get(0)));
 
     return new CosignatureSignedTransaction(
         BigInteger.valueOf(detachedCosignatureBuilder.getVersion()),
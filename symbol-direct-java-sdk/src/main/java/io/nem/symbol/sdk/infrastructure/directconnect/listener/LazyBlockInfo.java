@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.SerializationUtils;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Block info of a listener notification. Size, version, network, type and height are read from
+ * the header bytes; the other fields are decoded on first access. The signer and beneficiary can
+ * also be read from the header bytes without decoding the block.
+ */
+class LazyBlockInfo extends BlockInfo {
+  /* Offsets in the block header: size, reserved, signature, signer, reserved, version, network. */
+  private static final int SIZE_OFFSET = 0;
+  private static final int VERSION_OFFSET = 108;
+  private static final int NETWORK_OFFSET = 109;
+  private static final int TYPE_OFFSET = 110;
+  private static final int HEIGHT_OFFSET = 112;
+  private static final int SIGNER_OFFSET = 72;
+  private static final int SIGNER_SIZE = 32;
+  /* After the timestamp, difficulty, generation hash proof and the four block hashes. */
+  private static final int BENEFICIARY_OFFSET = 344;
+  private static final int ADDRESS_SIZE = 24;
+
+  private final byte[] header;
+
+  private final Supplier<BlockInfo> decoder;
+  private volatile BlockInfo decoded;
+
+  /**
+   * Constructor.
+   *
+   * @param header Block header frame.
+   * @param decoder Decodes the full block info.
+   */
+  LazyBlockInfo(final byte[] header, final Supplier<BlockInfo> decoder) {
+    this(ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN), decoder);
+  }
+
+  private LazyBlockInfo(final ByteBuffer header, final Supplier<BlockInfo> decoder) {
+    super(
+        "0",
+        Integer.toUnsignedLong(header.getInt(SIZE_OFFSET)),
+        null,
+        null,
+        BigInteger.ZERO,
+        Collections.EMPTY_LIST,
+        0,
+        Optional.empty(),
+        Collections.EMPTY_LIST,
+        null,
+        null,
+        NetworkType.rawValueOf(SerializationUtils.byteToUnsignedInt(header.get(NETWORK_OFFSET))),
+        SerializationUtils.byteToUnsignedInt(header.get(VERSION_OFFSET)),
+        SerializationUtils.shortToUnsignedInt(header.getShort(TYPE_OFFSET)),
+        SerializationUtils.toUnsignedBigInteger(header.getLong(HEIGHT_OFFSET)),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+    this.header = header.array();
+    this.decoder = decoder;
+  }
+
+  /**
+   * Gets the signer address from the header bytes.
+   *
+   * @return Signer address.
+   */
+  Address getSignerAddress() {
+    return Address.createFromPublicKey(
+        ConvertUtils.toHex(Arrays.copyOfRange(header, SIGNER_OFFSET, SIGNER_OFFSET + SIGNER_SIZE)),
+        getNetworkType());
+  }
+
+  /**
+   * Gets the raw beneficiary address from the header bytes.
+   *
+   * @return Beneficiary address bytes.
+   */
+  byte[] getBeneficiaryAddressBytes() {
+    return Arrays.copyOfRange(header, BENEFICIARY_OFFSET, BENEFICIARY_OFFSET + ADDRESS_SIZE);
+  }
+
+  private BlockInfo getDecoded() {
+    BlockInfo blockInfo = decoded;
+    if (blockInfo == null) {
+      blockInfo = decoder.get();
+      decoded = blockInfo;
+    }
+    return blockInfo;
+  }
+
+  @Override
+  public String getHash() {
+    return getDecoded().getHash();
+  }
+
+  @Override
+  public String getGenerationHash() {
+    return getDecoded().getGenerationHash();
+  }
+
+  @Override
+  public String getSignature() {
+    return getDecoded().getSignature();
+  }
+
+  @Override
+  public PublicAccount getSignerPublicAccount() {
+    return getDecoded().getSignerPublicAccount();
+  }
+
+  @Override
+  public BigInteger getTimestamp() {
+    return getDecoded().getTimestamp();
+  }
+
+  @Override
+  public BigInteger getDifficulty() {
+    return getDecoded().getDifficulty();
+  }
+
+  @Override
+  public Long getFeeMultiplier() {
+    return getDecoded().getFeeMultiplier();
+  }
+
+  @Override
+  public String getPreviousBlockHash() {
+    return getDecoded().getPreviousBlockHash();
+  }
+
+  @Override
+  public String getBlockTransactionsHash() {
+    return getDecoded().getBlockTransactionsHash();
+  }
+
+  @Override
+  public String getBlockReceiptsHash() {
+    return getDecoded().getBlockReceiptsHash();
+  }
+
+  @Override
+  public String getStateHash() {
+    return getDecoded().getStateHash();
+  }
+
+  @Override
+  public String getProofGamma() {
+    return getDecoded().getProofGamma();
+  }
+
+  @Override
+  public String getProofScalar() {
+    return getDecoded().getProofScalar();
+  }
+
+  @Override
+  public String getProofVerificationHash() {
+    return getDecoded().getProofVerificationHash();
+  }
+
+  @Override
+  public Address getBeneficiaryAddress() {
+    return getDecoded().getBeneficiaryAddress();
+  }
+}
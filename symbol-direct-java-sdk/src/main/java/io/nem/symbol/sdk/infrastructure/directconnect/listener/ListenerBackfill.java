@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+import io.nem.symbol.sdk.infrastructure.ListenerChannel;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.BlocksCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.TransactionsCollection;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Replays blocks the broker notifications skipped. ZeroMQ drops messages when a subscriber lags
+ * or reconnects; the next block then shows a height gap, which is filled from the database before
+ * the block is published.
+ */
+class ListenerBackfill {
+  private final BlocksCollection blocksCollection;
+  private final TransactionsCollection transactionsCollection;
+  private final Logger logger;
+  /* Height of the last block published, only used from the block lane thread. */
+  private long lastHeight = -1;
+
+  /**
+   * Constructor.
+   *
+   * @param context Data access context.
+   */
+  ListenerBackfill(final DataAccessContext context) {
+    this.blocksCollection = context.getCollection(BlocksCollection.class, BlocksCollection::new);
+    this.transactionsCollection =
+        context.getCollection(TransactionsCollection.class, TransactionsCollection::new);
+    this.logger = LogManager.getLogger("listener");
+  }
+
+  /**
+   * Publishes the blocks missing before a block notification, in height order. Each block is
+   * followed by its confirmed transactions when requested. The transactions of the whole gap are
+   * read with one query that does not wait, since most blocks have none.
+   *
+   * @param height Height of the block notification.
+   * @param includeTransactions True to also publish the confirmed transactions.
+   * @param publisher Publisher of the replayed messages.
+   */
+  void onBlock(
+      final BigInteger height,
+      final boolean includeTransactions,
+      final BiConsumer<ListenerChannel, Object> publisher) {
+    final long blockHeight = height.longValue();
+    if (lastHeight >= 0 && blockHeight > lastHeight + 1) {
+      logger.warn(
+          "Missed block notifications from height "
+              + (lastHeight + 1)
+              + " to "
+              + (blockHeight - 1)
+              + ", loading them from the database.");
+      try {
+        final Map<BigInteger, List<Transaction>> transactionsByHeight =
+            includeTransactions
+                ? transactionsCollection.findByBlockHeights(lastHeight + 1, blockHeight).stream()
+                    .collect(
+                        Collectors.groupingBy(
+                            transaction -> transaction.getTransactionInfo().get().getHeight()))
+                : Collections.emptyMap();
+        blocksCollection
+            .stream(BigInteger.valueOf(lastHeight + 1), height)
+            .blockingForEach(
+                fullBlockInfo -> {
+                  publisher.accept(ListenerChannel.BLOCK, fullBlockInfo.toBlockInfo());
+                  transactionsByHeight
+                      .getOrDefault(fullBlockInfo.getHeight(), Collections.emptyList())
+                      .forEach(
+                          transaction ->
+                              publisher.accept(ListenerChannel.CONFIRMED_ADDED, transaction));
+                });
+      } catch (final Exception ex) {
+        logger.error("Failed to load missed blocks: " + ex.getMessage());
+      }
+    }
+    /* Also resets after a rollback. */
+    lastHeight = blockHeight;
+  }
+}
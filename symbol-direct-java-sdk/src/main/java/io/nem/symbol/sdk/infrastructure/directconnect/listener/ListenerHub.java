@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.ListenerChannel;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMQ.Poller;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One broker connection shared by all the listeners of a process. Topic subscriptions are
+ * reference counted across the listeners and every message is decoded once and fanned out to all
+ * of them. With a database, block height gaps are filled by a {@link ListenerBackfill} and the
+ * lookup caches are kept current by a {@link LookupCacheInvalidator}.
+ */
+class ListenerHub {
+  /* How long the receive thread waits for a message before applying pending subscriptions. */
+  private static final long POLL_TIMEOUT_MILLISECONDS = 100;
+  /* Rejected messages between two overflow errors logged for a channel. */
+  private static final long OVERFLOW_LOG_INTERVAL = 1000;
+  /* Open hubs by broker address. */
+  private static final Map<String, ListenerHub> HUBS = new HashMap<>();
+
+  private final String key;
+  private final ZContext context;
+  private final ZMQ.Socket subscriber;
+  private final ExecutorService es;
+  private final Logger logger;
+  private final Map<MessageMarker, ListenerLane> lanes;
+  private final List<ListenerImpl> listeners = new CopyOnWriteArrayList<>();
+  /* Socket changes, applied on the receive thread since ZeroMQ sockets are not thread safe. */
+  private final Queue<Runnable> socketCommands = new ConcurrentLinkedQueue<>();
+  private final Map<String, Integer> topicCounts = new HashMap<>();
+  /* Fills block notification gaps, null when no database is available. */
+  private final ListenerBackfill backfill;
+  /* Invalidates the lookup caches, null when they are disabled. */
+  private final LookupCacheInvalidator cacheInvalidator;
+  private int referenceCount;
+
+  private ListenerHub(
+      final String key,
+      final String hostName,
+      final int port,
+      final int queueCapacity,
+      final OverflowPolicy overflowPolicy,
+      final DataAccessContext dataAccessContext) {
+    this.key = key;
+    this.logger = LogManager.getLogger("listener");
+    this.context = new ZContext();
+    this.subscriber = context.createSocket(SocketType.SUB);
+    subscriber.connect("tcp://" + hostName + ":" + port);
+    this.lanes = new EnumMap<>(MessageMarker.class);
+    for (final MessageMarker marker : MessageMarker.values()) {
+      lanes.put(marker, new ListenerLane(marker, queueCapacity, overflowPolicy));
+    }
+    this.backfill = dataAccessContext == null ? null : new ListenerBackfill(dataAccessContext);
+    if (backfill != null) {
+      /* Gaps are detected on block heights, so the hub always follows the blocks. */
+      subscribe(MessageMarker.Block_Marker.getMarkerBytes());
+    }
+    this.cacheInvalidator =
+        dataAccessContext != null && dataAccessContext.isLookupCacheEnabled()
+            ? new LookupCacheInvalidator(dataAccessContext)
+            : null;
+    if (cacheInvalidator != null) {
+      /* The marker alone is a prefix of every confirmed transaction topic. */
+      subscribe(MessageMarker.Transaction_Marker.getMarkerBytes());
+    }
+    this.es = Executors.newCachedThreadPool();
+    for (final ListenerLane lane : lanes.values()) {
+      es.execute(() -> lane.run(frames -> handle(lane.getMarker(), frames)));
+    }
+    es.execute(this::taskWorker);
+  }
+
+  /**
+   * Gets the hub of a broker, connecting to it if no listener is using it yet. The queue settings
+   * of the first listener apply until the hub is closed.
+   *
+   * @param hostName Broker host name.
+   * @param port Broker port.
+   * @param queueCapacity Maximum number of messages queued per channel.
+   * @param overflowPolicy What to do when a channel queue is full.
+   * @param dataAccessContext Database used to fill notification gaps, or null.
+   * @return Listener hub.
+   */
+  static ListenerHub acquire(
+      final String hostName,
+      final int port,
+      final int queueCapacity,
+      final OverflowPolicy overflowPolicy,
+      final DataAccessContext dataAccessContext) {
+    final String key = hostName + ":" + port;
+    synchronized (HUBS) {
+      final ListenerHub hub =
+          HUBS.computeIfAbsent(
+              key,
+              k ->
+                  new ListenerHub(
+                      k, hostName, port, queueCapacity, overflowPolicy, dataAccessContext));
+      hub.referenceCount++;
+      return hub;
+    }
+  }
+
+  /** Releases the hub, closing the broker connection when no listener uses it anymore. */
+  void release() {
+    synchronized (HUBS) {
+      if (--referenceCount > 0) {
+        return;
+      }
+      HUBS.remove(key);
+    }
+    try {
+      es.shutdownNow();
+      ExceptionUtils.propagate(() -> es.awaitTermination(5000, TimeUnit.SECONDS));
+    } finally {
+      subscriber.close();
+      context.close();
+    }
+  }
+
+  /**
+   * Adds a listener to the fan out.
+   *
+   * @param listener Listener.
+   */
+  void attach(final ListenerImpl listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener from the fan out.
+   *
+   * @param listener Listener.
+   */
+  void detach(final ListenerImpl listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Subscribes the socket to a topic if no listener is subscribed to it yet.
+   *
+   * @param topic Topic bytes.
+   */
+  synchronized void subscribe(final byte[] topic) {
+    if (topicCounts.merge(ConvertUtils.toHex(topic), 1, Integer::sum) == 1) {
+      socketCommands.add(() -> subscriber.subscribe(topic));
+      if (logger.isDebugEnabled()) {
+        logger.debug("Subscribe for message: " + ConvertUtils.toHex(topic));
+      }
+    }
+  }
+
+  /**
+   * Unsubscribes the socket from a topic once no listener is subscribed to it.
+   *
+   * @param topic Topic bytes.
+   */
+  synchronized void unsubscribe(final byte[] topic) {
+    final String topicHex = ConvertUtils.toHex(topic);
+    final Integer count = topicCounts.get(topicHex);
+    if (count == null) {
+      return;
+    }
+    if (count > 1) {
+      topicCounts.put(topicHex, count - 1);
+    } else {
+      topicCounts.remove(topicHex);
+      socketCommands.add(() -> subscriber.unsubscribe(topic));
+    }
+  }
+
+  private synchronized boolean isSubscribed(final MessageMarker marker) {
+    final String markerHex = ConvertUtils.toHex(marker.getMarkerBytes());
+    return topicCounts.keySet().stream().anyMatch(topic -> topic.startsWith(markerHex));
+  }
+
+  /**
+   * Gets the lane of a channel.
+   *
+   * @param channel Listener channel.
+   * @return Listener lane.
+   */
+  ListenerLane getLane(final ListenerChannel channel) {
+    return lanes.get(MessageMarker.fromChannelName(channel.toString()));
+  }
+
+  private void handle(final MessageMarker messageMarker, final List<byte[]> frames) {
+    try {
+      final Object objectMessage = messageMarker.getMessageHandler().handleMessage(frames);
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "Receive message: Channel: "
+                + messageMarker.getChannelName()
+                + " Object: "
+                + objectMessage);
+      }
+      if (backfill != null && messageMarker == MessageMarker.Block_Marker) {
+        backfill.onBlock(
+            ((BlockInfo) objectMessage).getHeight(),
+            isSubscribed(MessageMarker.Transaction_Marker),
+            this::publish);
+      }
+      publish(ListenerChannel.rawValueOf(messageMarker.getChannelName()), objectMessage);
+    } catch (final Exception ex) {
+      logger.error(ex.getMessage());
+    }
+  }
+
+  private void publish(final ListenerChannel channel, final Object objectMessage) {
+    if (cacheInvalidator != null) {
+      /* Before the listeners, so a lookup made on a notification sees the change. */
+      if (channel == ListenerChannel.BLOCK) {
+        cacheInvalidator.onBlock((BlockInfo) objectMessage);
+      } else if (channel == ListenerChannel.CONFIRMED_ADDED) {
+        cacheInvalidator.onTransaction((Transaction) objectMessage);
+      }
+    }
+    for (final ListenerImpl listener : listeners) {
+      listener.onNext(channel, objectMessage);
+    }
+  }
+
+  private void taskWorker() {
+    final Poller poller = context.createPoller(1);
+    poller.register(subscriber, ZMQ.Poller.POLLIN);
+    while (!Thread.currentThread().isInterrupted()) {
+      Runnable command;
+      while ((command = socketCommands.poll()) != null) {
+        command.run();
+      }
+      poller.poll(POLL_TIMEOUT_MILLISECONDS);
+      if (poller.pollin(0)) {
+        dispatch(receiveFrames());
+      }
+    }
+  }
+
+  private List<byte[]> receiveFrames() {
+    final List<byte[]> frames = new ArrayList<>(4);
+    do {
+      frames.add(subscriber.recv());
+    } while (subscriber.hasReceiveMore());
+    return frames;
+  }
+
+  private void dispatch(final List<byte[]> frames) {
+    final MessageMarker messageMarker;
+    try {
+      messageMarker = MessageMarker.rawValueOf(frames.get(0));
+    } catch (final IllegalArgumentException ex) {
+      logger.error(ex.getMessage());
+      return;
+    }
+    final ListenerLane lane = lanes.get(messageMarker);
+    if (!lane.offer(frames.subList(1, frames.size()))) {
+      /* The subjects are shared by every channel, so the overflow is only counted and logged. */
+      final long droppedCount = lane.getDroppedCount();
+      if (droppedCount % OVERFLOW_LOG_INTERVAL == 1) {
+        logger.error(
+            "Listener queue is full for channel "
+                + messageMarker.getChannelName()
+                + ", "
+                + droppedCount
+                + " messages rejected so far.");
+      }
+    }
+  }
+}
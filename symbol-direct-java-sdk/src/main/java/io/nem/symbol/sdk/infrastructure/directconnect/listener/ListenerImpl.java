@@ -21,52 +21,87 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 
 import io.nem.symbol.core.utils.Base32Encoder;
-import io.nem.symbol.core.utils.ByteUtils;
-import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.sdk.infrastructure.ListenerBase;
 import io.nem.symbol.sdk.infrastructure.ListenerChannel;
 import io.nem.symbol.sdk.infrastructure.ListenerMessage;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
 import io.nem.symbol.sdk.infrastructure.directconnect.network.BrokerNodeContext;
 import io.nem.symbol.sdk.infrastructure.vertx.JsonHelperJackson2;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.reactivex.subjects.Subject;
 import io.vertx.core.json.Json;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.zeromq.SocketType;
-import org.zeromq.ZContext;
-import org.zeromq.ZMQ;
-import org.zeromq.ZMQ.Poller;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-/** Listener that connects directly to broker */
+/**
+ * Listener that connects directly to broker. All the listeners of a broker share one connection
+ * through a {@link ListenerHub}, so opening a listener does not open a new socket.
+ */
 public class ListenerImpl extends ListenerBase {
+  /* Default number of messages queued per channel. */
+  public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+  /* Default policy when a channel queue is full. */
+  public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BLOCK;
+
   private final String hostName;
   private final int port;
-  private final AtomicBoolean listenerRunning;
-  private final ExecutorService es;
+  private final int queueCapacity;
+  private final OverflowPolicy overflowPolicy;
+  private final DataAccessContext dataAccessContext;
   private final Logger logger;
-  private ZContext context;
-  private ZMQ.Socket subscriber;
+  private final Subject<ListenerMessage> messageSubject;
+  /* Topics this listener holds a reference on in the hub. */
+  private final List<byte[]> topics = new ArrayList<>();
+  private ListenerHub hub;
 
   public ListenerImpl(final BrokerNodeContext context) {
+    this(context, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param context Broker node context.
+   * @param dataAccessContext Database used to fill missed block notifications, or null.
+   */
+  public ListenerImpl(final BrokerNodeContext context, final DataAccessContext dataAccessContext) {
+    this(context, dataAccessContext, DEFAULT_QUEUE_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+  }
+
+  /**
+   * Constructor. The queue and database settings apply when this listener is the first one opened on the
+   * broker.
+   *
+   * @param context Broker node context.
+   * @param dataAccessContext Database used to fill missed block notifications, or null.
+   * @param queueCapacity Maximum number of messages queued per channel.
+   * @param overflowPolicy What to do when a channel queue is full.
+   */
+  public ListenerImpl(
+      final BrokerNodeContext context,
+      final DataAccessContext dataAccessContext,
+      final int queueCapacity,
+      final OverflowPolicy overflowPolicy) {
     super(new JsonHelperJackson2(JsonHelperJackson2.configureMapper(Json.mapper)), null);
 
     this.hostName = context.getHostName();
     this.port = context.getServerPort();
-    listenerRunning = new AtomicBoolean(false);
-    es = Executors.newCachedThreadPool();
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.dataAccessContext = dataAccessContext;
     logger = LogManager.getLogger("listener");
+    /* The hub publishes from its lane threads. */
+    messageSubject = getMessageSubject().toSerialized();
   }
 
   /**
@@ -75,37 +110,68 @@ public class ListenerImpl extends ListenerBase {
    * @param channel the channel
    * @param messageObject the message object.
    */
-  private void onNext(ListenerChannel channel, Object messageObject) {
-    this.getMessageSubject().onNext(new ListenerMessage(channel, messageObject));
+  void onNext(ListenerChannel channel, Object messageObject) {
+    messageSubject.onNext(new ListenerMessage(channel, messageObject));
   }
 
+  /**
+   * Handles a message on the calling thread.
+   *
+   * @param message List of the message frames, starting with the topic frame.
+   * @param future Not used.
+   */
   @Override
   public void handle(Object message, CompletableFuture<Void> future) {
     try {
-      final byte[] messageBytes = (byte[]) message;
-      logger.error(
-          "Receive message: "
-              + ConvertUtils.toHex(messageBytes)
-              + " length = "
-              + messageBytes.length);
-      final String hex =
-          messageBytes.length == 8 // block notification.
-              ? ConvertUtils.toHex(ByteUtils.reverseCopy(messageBytes))
-              : ConvertUtils.toHex(messageBytes);
-      logger.error("Actual message: " + hex);
-      final MessageMarker messageMarker = MessageMarker.rawValueOf(hex);
-      final Object objectMessage = messageMarker.getMessageHandler().handleMessage(subscriber);
-      logger.error(
-          "Channel: "
-              + messageMarker.getChannelName()
-              + " Object type: "
-              + objectMessage.toString());
+      final List<byte[]> frames = (List<byte[]>) message;
+      final MessageMarker messageMarker = MessageMarker.rawValueOf(frames.get(0));
+      final Object objectMessage =
+          messageMarker
+              .getMessageHandler()
+              .handleMessage(frames.subList(1, frames.size()));
       onNext(ListenerChannel.rawValueOf(messageMarker.getChannelName()), objectMessage);
     } catch (final Exception ex) {
       logger.error(ex.getMessage());
     }
   }
 
+  /**
+   * Gets the number of messages waiting to be handled for a channel.
+   *
+   * @param channel Listener channel.
+   * @return Queue depth.
+   */
+  public int getQueueDepth(final ListenerChannel channel) {
+    return getHub().getLane(channel).getQueueDepth();
+  }
+
+  /**
+   * Gets the number of messages of a channel discarded because its queue was full.
+   *
+   * @param channel Listener channel.
+   * @return Dropped count.
+   */
+  public long getDroppedCount(final ListenerChannel channel) {
+    return getHub().getLane(channel).getDroppedCount();
+  }
+
+  /**
+   * Gets the number of messages of a channel that were handled.
+   *
+   * @param channel Listener channel.
+   * @return Processed count.
+   */
+  public long getProcessedCount(final ListenerChannel channel) {
+    return getHub().getLane(channel).getProcessedCount();
+  }
+
+  private synchronized ListenerHub getHub() {
+    if (hub == null) {
+      throw new IllegalStateException("Listener is not opened.");
+    }
+    return hub;
+  }
+
   /**
    * Subclasses know how to map a generic blockInfoDTO json to a BlockInfo using the generated DTOs
    * of the implementation.
@@ -146,63 +212,51 @@ public class ListenerImpl extends ListenerBase {
   @Override
   protected void subscribeTo(final String channel) {
     final String[] channelParts = channel.split("/");
-    final String messageMaker = MessageMarker.fromChannelName(channelParts[0]).getMessageMaker();
-    final String reverseMessageMaker =
-        messageMaker.length() > 2 ? ConvertUtils.reverseHexString(messageMaker) : messageMaker;
-    final byte[] messageMakerBytes = ConvertUtils.fromHexToBytes(reverseMessageMaker);
+    final byte[] messageMakerBytes =
+        MessageMarker.fromChannelName(channelParts[0]).getMarkerBytes();
     final byte[] addressBytes =
         channelParts.length > 1 ? Base32Encoder.getBytes(channelParts[1]) : new byte[0];
-    final ByteBuffer byteBuffer =
+    final byte[] topic =
         ByteBuffer.allocate(messageMakerBytes.length + addressBytes.length)
             .order(ByteOrder.LITTLE_ENDIAN)
             .put(messageMakerBytes)
-            .put(addressBytes);
-    if (!listenerRunning.getAndSet(true)) {
-      es.execute(this::taskWorker);
+            .put(addressBytes)
+            .array();
+    final ListenerHub listenerHub = getHub();
+    synchronized (this) {
+      for (final byte[] current : topics) {
+        if (Arrays.equals(current, topic)) {
+          return;
+        }
+      }
+      topics.add(topic);
     }
-    subscriber.subscribe(byteBuffer.array());
-    logger.error("Subscribe for message: " + ConvertUtils.toHex(byteBuffer.array()));
+    listenerHub.subscribe(topic);
   }
 
   /** @return a {@link CompletableFuture} that resolves when the websocket connection is opened */
   @Override
-  public CompletableFuture<Void> open() {
-    if (context != null) {
+  public synchronized CompletableFuture<Void> open() {
+    if (hub != null) {
       throw new IllegalStateException("Listener is already opened.");
     }
-    context = new ZContext();
-    //  Socket to talk to server
-    subscriber = context.createSocket(SocketType.SUB);
-    subscriber.connect("tcp://" + hostName + ":" + port);
+    hub = ListenerHub.acquire(hostName, port, queueCapacity, overflowPolicy, dataAccessContext);
+    hub.attach(this);
     setUid("DirectConnectId " + Thread.currentThread().getId());
     return CompletableFuture.completedFuture(null);
   }
 
   /** Close webSocket connection */
   @Override
-  public void close() {
-    if (context != null) {
+  public synchronized void close() {
+    if (hub != null) {
       try {
-        es.shutdownNow();
-        ExceptionUtils.propagate(() -> es.awaitTermination(5000, TimeUnit.SECONDS));
+        hub.detach(this);
+        topics.forEach(hub::unsubscribe);
+        topics.clear();
       } finally {
-        if (subscriber != null) {
-          subscriber.close();
-        }
-        context.close();
-      }
-    }
-  }
-
-  private void taskWorker() {
-    Poller poller = context.createPoller(1);
-    poller.register(subscriber, ZMQ.Poller.POLLIN);
-    while (!Thread.currentThread().isInterrupted()) {
-      poller.poll(1000);
-      // Read envelope with address
-      if (poller.pollin(0)) {
-        final byte[] message = subscriber.recv();
-        handle(message, null);
+        hub.release();
+        hub = null;
       }
     }
   }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/** Bounded queue and worker for the messages of one channel. */
+class ListenerLane {
+  /* How long a worker waits for a message before checking for interruption. */
+  private static final long POLL_TIMEOUT_MILLISECONDS = 1000;
+
+  private final MessageMarker marker;
+  private final BlockingQueue<List<byte[]>> queue;
+  private final OverflowPolicy overflowPolicy;
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong processedCount = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @param marker Marker of the channel messages.
+   * @param capacity Maximum number of queued messages.
+   * @param overflowPolicy What to do when the queue is full.
+   */
+  ListenerLane(final MessageMarker marker, final int capacity, final OverflowPolicy overflowPolicy) {
+    this.marker = marker;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Queues the frames of a message.
+   *
+   * @param frames Frames of the message after the topic frame.
+   * @return False if the message was rejected under the error policy.
+   */
+  boolean offer(final List<byte[]> frames) {
+    switch (overflowPolicy) {
+      case BLOCK:
+        ExceptionUtils.propagateVoid(() -> queue.put(frames));
+        return true;
+      case DROP_OLDEST:
+        while (!queue.offer(frames)) {
+          if (queue.poll() != null) {
+            droppedCount.incrementAndGet();
+          }
+        }
+        return true;
+      default:
+        if (queue.offer(frames)) {
+          return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+  }
+
+  /**
+   * Processes queued messages until the thread is interrupted.
+   *
+   * @param handler Handler for the frames of each message.
+   */
+  void run(final Consumer<List<byte[]>> handler) {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final List<byte[]> frames = queue.poll(POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (frames != null) {
+          handler.accept(frames);
+          processedCount.incrementAndGet();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Gets the marker of the channel messages.
+   *
+   * @return Message marker.
+   */
+  MessageMarker getMarker() {
+    return marker;
+  }
+
+  /**
+   * Gets the number of messages waiting in the queue.
+   *
+   * @return Queue depth.
+   */
+  int getQueueDepth() {
+    return queue.size();
+  }
+
+  /**
+   * Gets the number of messages discarded because the queue was full.
+   *
+   * @return Dropped count.
+   */
+  long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * Gets the number of messages handled by the worker.
+   *
+   * @return Processed count.
+   */
+  long getProcessedCount() {
+    return processedCount.get();
+  }
+}
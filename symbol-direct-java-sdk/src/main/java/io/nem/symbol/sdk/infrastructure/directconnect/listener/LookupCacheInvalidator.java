@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DataAccessContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.AccountsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.MosaicsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.MultisigsCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.NamespacesCollection;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.MapperUtils;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceRegistrationType;
+import io.nem.symbol.sdk.model.transaction.AddressAliasTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.MosaicAliasTransaction;
+import io.nem.symbol.sdk.model.transaction.MosaicDefinitionTransaction;
+import io.nem.symbol.sdk.model.transaction.MosaicSupplyChangeTransaction;
+import io.nem.symbol.sdk.model.transaction.MultisigAccountModificationTransaction;
+import io.nem.symbol.sdk.model.transaction.NamespaceRegistrationTransaction;
+import io.nem.symbol.sdk.model.transaction.SecretProofTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+
+/**
+ * Removes the lookup cache entries changed by a block or a confirmed transaction. Changes that
+ * only show up in receipts, such as expired locks, are left to the cache time to live.
+ */
+class LookupCacheInvalidator {
+  private final AccountsCollection accountsCollection;
+  private final MosaicsCollection mosaicsCollection;
+  private final MultisigsCollection multisigsCollection;
+  private final NamespacesCollection namespacesCollection;
+
+  /**
+   * Constructor.
+   *
+   * @param context Data access context.
+   */
+  LookupCacheInvalidator(final DataAccessContext context) {
+    this.accountsCollection =
+        context.getCollection(AccountsCollection.class, AccountsCollection::new);
+    this.mosaicsCollection = context.getCollection(MosaicsCollection.class, MosaicsCollection::new);
+    this.multisigsCollection =
+        context.getCollection(MultisigsCollection.class, MultisigsCollection::new);
+    this.namespacesCollection =
+        context.getCollection(NamespacesCollection.class, NamespacesCollection::new);
+  }
+
+  /**
+   * Invalidates the accounts paid by a block. Notification blocks are read from their header
+   * bytes, so they are not decoded.
+   *
+   * @param blockInfo Block info.
+   */
+  void onBlock(final BlockInfo blockInfo) {
+    if (blockInfo instanceof LazyBlockInfo) {
+      final LazyBlockInfo lazyBlockInfo = (LazyBlockInfo) blockInfo;
+      invalidateAccount(lazyBlockInfo.getSignerAddress());
+      accountsCollection.invalidate(lazyBlockInfo.getBeneficiaryAddressBytes());
+      return;
+    }
+    invalidateAccount(blockInfo.getSignerPublicAccount().getAddress());
+    invalidateAccount(blockInfo.getBeneficiaryAddress());
+  }
+
+  /**
+   * Invalidates the entries changed by a confirmed transaction.
+   *
+   * @param transaction Confirmed transaction.
+   */
+  void onTransaction(final Transaction transaction) {
+    transaction
+        .getSigner()
+        .ifPresent(
+            signer -> {
+              invalidateAccount(signer.getAddress());
+              invalidateMultisig(signer.getAddress());
+            });
+    if (transaction instanceof AggregateTransaction) {
+      for (final Transaction innerTransaction :
+          ((AggregateTransaction) transaction).getInnerTransactions()) {
+        onTransaction(innerTransaction);
+      }
+    } else if (transaction instanceof TransferTransaction) {
+      invalidateAccount(((TransferTransaction) transaction).getRecipient());
+    } else if (transaction instanceof SecretProofTransaction) {
+      /* The proof releases the locked mosaic to the recipient. */
+      invalidateAccount(((SecretProofTransaction) transaction).getRecipient());
+    } else if (transaction instanceof MultisigAccountModificationTransaction) {
+      final MultisigAccountModificationTransaction modification =
+          (MultisigAccountModificationTransaction) transaction;
+      modification.getAddressAdditions().forEach(this::invalidateMultisig);
+      modification.getAddressDeletions().forEach(this::invalidateMultisig);
+    } else if (transaction instanceof MosaicDefinitionTransaction) {
+      invalidateMosaic(((MosaicDefinitionTransaction) transaction).getMosaicId());
+    } else if (transaction instanceof MosaicSupplyChangeTransaction) {
+      invalidateMosaic(((MosaicSupplyChangeTransaction) transaction).getMosaicId());
+    } else if (transaction instanceof NamespaceRegistrationTransaction) {
+      final NamespaceRegistrationTransaction registration =
+          (NamespaceRegistrationTransaction) transaction;
+      if (registration.getNamespaceRegistrationType()
+          == NamespaceRegistrationType.ROOT_NAMESPACE) {
+        /* Extending a root also extends all its children. */
+        namespacesCollection.invalidateAll();
+      } else {
+        namespacesCollection.invalidate(registration.getNamespaceId().getIdAsLong());
+      }
+    } else if (transaction instanceof AddressAliasTransaction) {
+      namespacesCollection.invalidate(
+          ((AddressAliasTransaction) transaction).getNamespaceId().getIdAsLong());
+    } else if (transaction instanceof MosaicAliasTransaction) {
+      namespacesCollection.invalidate(
+          ((MosaicAliasTransaction) transaction).getNamespaceId().getIdAsLong());
+    }
+  }
+
+  private void invalidateAccount(final UnresolvedAddress address) {
+    if (address instanceof Address) {
+      accountsCollection.invalidate(toBytes((Address) address));
+    } else {
+      /* The alias target is not known here. */
+      accountsCollection.invalidateAll();
+    }
+  }
+
+  private void invalidateMultisig(final UnresolvedAddress address) {
+    if (address instanceof Address) {
+      multisigsCollection.invalidate(toBytes((Address) address));
+    } else {
+      multisigsCollection.invalidateAll();
+    }
+  }
+
+  private void invalidateMosaic(final UnresolvedMosaicId mosaicId) {
+    if (mosaicId instanceof MosaicId) {
+      mosaicsCollection.invalidate(mosaicId.getIdAsLong());
+    } else {
+      mosaicsCollection.invalidateAll();
+    }
+  }
+
+  private static byte[] toBytes(final Address address) {
+    return MapperUtils.fromAddressToByteBuffer(address).array();
+  }
+}
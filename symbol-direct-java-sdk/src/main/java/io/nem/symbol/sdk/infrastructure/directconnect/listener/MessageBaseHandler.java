@@ -1,18 +1,19 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 
-import org.zeromq.ZMQ.Socket;
-
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.util.List;
 
 public abstract class MessageBaseHandler implements MessageHandler {
 	protected DataInputStream toInputStream(final byte[] bytes) {
 		return new DataInputStream(new ByteArrayInputStream(bytes));
 	}
 
-	protected void failIfMoreMessageAvailable(final Socket socket, final String message) {
-		if (socket.hasReceiveMore()) {
-			new IllegalStateException("More message available: " + message);
+	protected void failIfFrameCountIsNot(
+			final List<byte[]> frames, final int expectedCount, final String message) {
+		if (frames.size() != expectedCount) {
+			throw new IllegalStateException(
+					"Expected " + expectedCount + " frames but got " + frames.size() + ": " + message);
 		}
 	}
 }
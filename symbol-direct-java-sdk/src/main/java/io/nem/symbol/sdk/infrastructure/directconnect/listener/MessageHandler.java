@@ -20,13 +20,13 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 
-import org.zeromq.ZMQ.Socket;
+import java.util.List;
 
 /** Handle messages from the symbol broker. */
 public interface MessageHandler<T> {
 	/**
 	 * Handle a message from the broker
-	 * @param subscriber Subscriber for the message
+	 * @param frames Frames of the message after the topic frame
 	 */
-	T handleMessage(final Socket subscriber);
+	T handleMessage(final List<byte[]> frames);
 }
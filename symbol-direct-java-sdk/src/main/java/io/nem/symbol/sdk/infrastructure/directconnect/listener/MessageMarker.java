@@ -20,9 +20,9 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 
+import io.nem.symbol.core.utils.ByteUtils;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.ListenerChannel;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 public enum MessageMarker {
   Block_Marker("9FF2D8E480CA6A49", ListenerChannel.BLOCK.toString(), new BlockMessageHandler()),
@@ -42,17 +42,56 @@ public enum MessageMarker {
       new TransactionHashMessageHandler()),
   Cosignature_Marker("63", ListenerChannel.COSIGNATURE.toString(), new CosignatureMessageHandler());
 
+  /* Marker for each value of the first topic byte. */
+  private static final MessageMarker[] MARKERS_BY_FIRST_BYTE = new MessageMarker[256];
+
+  static {
+    for (final MessageMarker current : MessageMarker.values()) {
+      MARKERS_BY_FIRST_BYTE[current.markerBytes[0] & 0xFF] = current;
+    }
+  }
+
   private final String channelName;
   private final String messageMakerHex;
+  private final byte[] markerBytes;
   private final MessageHandler messageHandler;
 
-  private final Logger logger;
-
   MessageMarker(final String markerHex, final String channelName, final MessageHandler handler) {
     this.channelName = channelName;
     this.messageHandler = handler;
     this.messageMakerHex = markerHex;
-    logger = LogManager.getLogger("marker");
+    final byte[] bytes = ConvertUtils.fromHexToBytes(markerHex);
+    /* Multi byte markers are sent as little endian numbers. */
+    this.markerBytes = bytes.length > 1 ? ByteUtils.reverseCopy(bytes) : bytes;
+  }
+
+  /**
+   * Gets enum value from the topic frame of a message.
+   *
+   * @param topic Topic frame.
+   * @return Enum value.
+   */
+  public static MessageMarker rawValueOf(final byte[] topic) {
+    if (topic.length > 0) {
+      final MessageMarker marker = MARKERS_BY_FIRST_BYTE[topic[0] & 0xFF];
+      if (marker != null && marker.isMarkerOf(topic)) {
+        return marker;
+      }
+    }
+    throw new IllegalArgumentException(
+        ConvertUtils.toHex(topic) + " was not a backing value for MessageMarker.");
+  }
+
+  private boolean isMarkerOf(final byte[] topic) {
+    if (topic.length < markerBytes.length) {
+      return false;
+    }
+    for (int i = 1; i < markerBytes.length; i++) {
+      if (topic[i] != markerBytes[i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -62,9 +101,7 @@ public enum MessageMarker {
    * @return Enum value.
    */
   public static MessageMarker rawValueOf(final String value) {
-    final Logger  logger = LogManager.getLogger("marker");
     for (final MessageMarker current : MessageMarker.values()) {
-      logger.error("Checking " + current.messageMakerHex + ":" + value);
       if (value.startsWith(current.messageMakerHex)) {
         return current;
       }
@@ -98,4 +135,13 @@ public enum MessageMarker {
   public String getMessageMaker() {
     return messageMakerHex;
   }
+
+  /**
+   * Gets the marker as it is sent at the start of the topic frame.
+   *
+   * @return Marker bytes.
+   */
+  public byte[] getMarkerBytes() {
+    return markerBytes.clone();
+  }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+/** What a listener lane does when its queue is full. */
+public enum OverflowPolicy {
+  /** Discard the oldest queued message to make room for the new one. */
+  DROP_OLDEST,
+  /** Block the receive thread until the lane has room. */
+  BLOCK,
+  /**
+   * Discard the new message and log an error for the channel. The rejected messages are counted
+   * by the listener dropped count.
+   */
+  ERROR
+}
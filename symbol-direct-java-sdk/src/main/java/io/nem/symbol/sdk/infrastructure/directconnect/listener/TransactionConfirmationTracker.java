@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.listener;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionState;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.schedulers.Schedulers;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tracks transaction state changes from the listener notifications. Each signer address is
+ * subscribed once and waiters are completed as soon as the notification arrives. The status
+ * repository is only queried when the notification could have been missed.
+ */
+public class TransactionConfirmationTracker implements AutoCloseable {
+  /* Final transaction states. */
+  private static final List<TransactionState> FINAL_STATES =
+      Arrays.asList(TransactionState.CONFIRMED, TransactionState.FAILED);
+
+  /* Listener for the notifications. */
+  private final Listener listener;
+  /* Fallback used when a notification is missed. */
+  private final TransactionStatusRepository statusRepository;
+  /* Waiters per transaction hash. */
+  private final Map<String, List<StatusWaiter>> waiters;
+  /* Addresses already subscribed. */
+  private final Set<String> subscribedAddresses;
+  /* Listener subscriptions. */
+  private final CompositeDisposable subscriptions;
+  private final Logger logger;
+
+  /**
+   * Constructor.
+   *
+   * @param listener Opened listener.
+   * @param statusRepository Transaction status repository.
+   */
+  public TransactionConfirmationTracker(
+      final Listener listener, final TransactionStatusRepository statusRepository) {
+    this.listener = listener;
+    this.statusRepository = statusRepository;
+    this.waiters = new ConcurrentHashMap<>();
+    this.subscribedAddresses = ConcurrentHashMap.newKeySet();
+    this.subscriptions = new CompositeDisposable();
+    this.logger = LogManager.getLogger("listener");
+  }
+
+  /**
+   * Tracks a transaction until it reaches a state or a final state.
+   *
+   * @param hash Transaction hash.
+   * @param signerAddress Address of the transaction signer.
+   * @param state Expected state.
+   * @return Future completed with the status once the transaction reaches the expected state or
+   *     a final state.
+   */
+  public CompletableFuture<TransactionStatus> track(
+      final String hash, final Address signerAddress, final TransactionState state) {
+    subscribe(signerAddress);
+    final StatusWaiter waiter = new StatusWaiter(state);
+    waiters.compute(
+        toKey(hash),
+        (key, list) -> {
+          final List<StatusWaiter> hashWaiters = list == null ? new ArrayList<>() : list;
+          hashWaiters.add(waiter);
+          return hashWaiters;
+        });
+    // The notification could have been sent before the subscription.
+    resolveFromRepository(hash);
+    return waiter.future;
+  }
+
+  /**
+   * Waits for a transaction to reach a state or a final state.
+   *
+   * @param hash Transaction hash.
+   * @param signerAddress Address of the transaction signer.
+   * @param state Expected state.
+   * @param timeoutInSeconds Timeout in seconds.
+   * @return Transaction status.
+   */
+  public TransactionStatus waitForStatus(
+      final String hash,
+      final Address signerAddress,
+      final TransactionState state,
+      final int timeoutInSeconds) {
+    final CompletableFuture<TransactionStatus> future = track(hash, signerAddress, state);
+    try {
+      return future.get(timeoutInSeconds, TimeUnit.SECONDS);
+    } catch (final TimeoutException e) {
+      removeWaiter(hash, future);
+      final Optional<TransactionStatus> status = getStatusFromRepository(hash);
+      if (status.isPresent()) {
+        return status.get();
+      }
+      throw new IllegalArgumentException("Transaction hash " + hash + " not found.");
+    } catch (final Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Gets the number of transactions being tracked.
+   *
+   * @return Number of transactions.
+   */
+  public int getPendingCount() {
+    return waiters.size();
+  }
+
+  /** Stops the notification subscriptions and fails the pending waiters. */
+  @Override
+  public void close() {
+    subscriptions.dispose();
+    final IllegalStateException closedException =
+        new IllegalStateException("Confirmation tracker has been closed.");
+    for (final String key : waiters.keySet()) {
+      final List<StatusWaiter> hashWaiters = waiters.remove(key);
+      if (hashWaiters != null) {
+        hashWaiters.forEach(waiter -> waiter.future.completeExceptionally(closedException));
+      }
+    }
+  }
+
+  private void subscribe(final Address address) {
+    if (!subscribedAddresses.add(address.plain())) {
+      return;
+    }
+    subscriptions.add(
+        listener
+            .confirmed(address)
+            .subscribe(
+                transaction -> onStatus(toStatus(TransactionState.CONFIRMED, transaction)),
+                this::onError));
+    subscriptions.add(
+        listener
+            .unconfirmedAdded(address)
+            .subscribe(
+                transaction -> onStatus(toStatus(TransactionState.UNCONFIRMED, transaction)),
+                this::onError));
+    subscriptions.add(
+        listener
+            .aggregateBondedAdded(address)
+            .subscribe(
+                transaction -> onStatus(toStatus(TransactionState.PARTIAL, transaction)),
+                this::onError));
+    subscriptions.add(listener.status(address).subscribe(this::onStatusError, this::onError));
+    // Removal is sent both on confirmation and on rejection, so check where the transaction went.
+    subscriptions.add(
+        listener.unconfirmedRemoved(address).subscribe(this::resolveFromRepository, this::onError));
+  }
+
+  private void onStatusError(final TransactionStatusError statusError) {
+    onStatus(
+        new TransactionStatus(
+            TransactionState.FAILED,
+            statusError.getStatus(),
+            statusError.getHash(),
+            statusError.getDeadline(),
+            BigInteger.ZERO));
+  }
+
+  private void onStatus(final TransactionStatus status) {
+    final String key = toKey(status.getHash());
+    if (!waiters.containsKey(key)) {
+      return;
+    }
+    final boolean isFinal = FINAL_STATES.contains(status.getGroup());
+    waiters.computeIfPresent(
+        key,
+        (k, list) -> {
+          list.removeIf(
+              waiter -> {
+                if (isFinal || waiter.state == status.getGroup()) {
+                  waiter.future.complete(status);
+                  return true;
+                }
+                return false;
+              });
+          return list.isEmpty() ? null : list;
+        });
+  }
+
+  private void onError(final Throwable error) {
+    logger.error("Confirmation tracker notification failed: " + error.getMessage());
+  }
+
+  private void resolveFromRepository(final String hash) {
+    if (!waiters.containsKey(toKey(hash))) {
+      return;
+    }
+    statusRepository
+        .getTransactionStatus(hash)
+        .subscribeOn(Schedulers.io())
+        .subscribe(this::onStatus, error -> {});
+  }
+
+  private Optional<TransactionStatus> getStatusFromRepository(final String hash) {
+    try {
+      return Optional.of(statusRepository.getTransactionStatus(hash).blockingFirst());
+    } catch (final Exception e) {
+      return Optional.empty();
+    }
+  }
+
+  private void removeWaiter(final String hash, final CompletableFuture<TransactionStatus> future) {
+    waiters.computeIfPresent(
+        toKey(hash),
+        (key, list) -> {
+          list.removeIf(waiter -> waiter.future == future);
+          return list.isEmpty() ? null : list;
+        });
+  }
+
+  private static TransactionStatus toStatus(
+      final TransactionState state, final Transaction transaction) {
+    return new TransactionStatus(
+        state,
+        "Success",
+        transaction.getTransactionInfo().get().getHash().get(),
+        transaction.getDeadline(),
+        transaction.getTransactionInfo().get().getHeight());
+  }
+
+  private static String toKey(final String hash) {
+    return hash.toUpperCase();
+  }
+
+  /** Waiter for a transaction state. */
+  private static class StatusWaiter {
+    final TransactionState state;
+    final CompletableFuture<TransactionStatus> future;
+
+    StatusWaiter(final TransactionState state) {
+      this.state = state;
+      this.future = new CompletableFuture<>();
+    }
+  }
+}
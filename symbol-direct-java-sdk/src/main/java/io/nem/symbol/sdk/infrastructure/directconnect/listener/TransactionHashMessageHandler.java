@@ -22,7 +22,8 @@ package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 
 import io.nem.symbol.catapult.builders.Hash256Dto;
 import io.nem.symbol.core.utils.ConvertUtils;
-import org.zeromq.ZMQ;
+
+import java.util.List;
 
 
 /** Handle the transaction hash message from the server. */
@@ -30,12 +31,12 @@ public class TransactionHashMessageHandler extends MessageBaseHandler {
 	/**
 	 * Handle a message from the broker
 	 *
-	 * @param subscriber Subscriber for the message
+	 * @param frames Frames of the message after the topic frame
 	 */
 	@Override
-	public String handleMessage(final ZMQ.Socket subscriber) {
-		final Hash256Dto transactionHash = Hash256Dto.loadFromBinary(toInputStream(subscriber.recv()));
-		failIfMoreMessageAvailable(subscriber, "Block message is not correct.");
+	public String handleMessage(final List<byte[]> frames) {
+		failIfFrameCountIsNot(frames, 1, "Transaction hash message is not correct.");
+		final Hash256Dto transactionHash = Hash256Dto.loadFromBinary(toInputStream(frames.get(0)));
 
 		return ConvertUtils.toHex(transactionHash.getHash256().array());
 	}
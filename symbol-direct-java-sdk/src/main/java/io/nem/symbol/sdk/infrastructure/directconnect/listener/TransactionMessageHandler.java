@@ -20,38 +20,36 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.listener;
 
-import io.nem.symbol.catapult.builders.Hash256Dto;
-import io.nem.symbol.catapult.builders.HeightDto;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
 import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionFactory;
 import io.nem.symbol.sdk.model.transaction.TransactionInfo;
-import org.zeromq.ZMQ;
 
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 
 /** Handle the transaction message from the server. */
 public class TransactionMessageHandler extends MessageBaseHandler {
   /**
    * Handle a message from the broker
    *
-   * @param subscriber Subscriber for the message
+   * @param frames Frames of the message after the topic frame
    */
   @Override
-  public Transaction handleMessage(final ZMQ.Socket subscriber) {
-    final byte[] transactionPayLoad = subscriber.recv();
-    final Hash256Dto entityHash = Hash256Dto.loadFromBinary(toInputStream(subscriber.recv()));
-    final Hash256Dto merkleComponentHash =
-        Hash256Dto.loadFromBinary(toInputStream(subscriber.recv()));
-    final long height = HeightDto.loadFromBinary(toInputStream(subscriber.recv())).getHeight();
-    failIfMoreMessageAvailable(subscriber, "Transaction message is not correct.");
+  public Transaction handleMessage(final List<byte[]> frames) {
+    failIfFrameCountIsNot(frames, 4, "Transaction message is not correct.");
+    final byte[] transactionPayLoad = frames.get(0);
+    /* Hash and height frames are raw values, no builder is needed to read them. */
+    final long height = ByteBuffer.wrap(frames.get(3)).order(ByteOrder.LITTLE_ENDIAN).getLong();
 
     final TransactionInfo transactionInfo =
         TransactionInfo.create(
-            BigInteger.valueOf(height),
-            SerializationUtils.toHexString(entityHash),
-            SerializationUtils.toHexString(merkleComponentHash));
+            SerializationUtils.toUnsignedBigInteger(height),
+            ConvertUtils.toHex(frames.get(1)),
+            ConvertUtils.toHex(frames.get(2)));
     final TransactionFactory<?> factory =
         ((BinarySerializationImpl) BinarySerializationImpl.INSTANCE)
             .deserializeToFactory(transactionPayLoad);
@@ -27,20 +27,20 @@ import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.mappers.TransactionStatusCode;
 import io.nem.symbol.sdk.model.transaction.Deadline;
 import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
-import org.zeromq.ZMQ;
-
 import java.io.DataInputStream;
+import java.util.List;
 
 /** Handle the transaction status message from the server. */
 public class TransactionStatusMessageHandler extends MessageBaseHandler {
   /**
    * Handle a message from the broker
    *
-   * @param subscriber Subscriber for the message
+   * @param frames Frames of the message after the topic frame
    */
   @Override
-  public TransactionStatusError handleMessage(final ZMQ.Socket subscriber) {
-    final byte[] statusBytes = subscriber.recv();
+  public TransactionStatusError handleMessage(final List<byte[]> frames) {
+    failIfFrameCountIsNot(frames, 1, "Transaction status message is not correct.");
+    final byte[] statusBytes = frames.get(0);
     final DataInputStream dataInputStream = toInputStream(statusBytes);
     final int code = ExceptionUtils.propagate(()->dataInputStream.readInt());
     final TimestampDto deadLine = TimestampDto.loadFromBinary(dataInputStream);
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads announces over a set of api nodes. Each announce picks a node at random, weighted by its
+ * connection health, the announces in flight on it and its observed announce latency. A failed
+ * announce moves on to the next node, and critical announces can be sent to several nodes.
+ */
+public class AnnounceRouter {
+  /* Weight factor of a node whose circuit is half open, so it only gets a trial share. */
+  private static final double HALF_OPEN_WEIGHT_FACTOR = 0.1;
+  /* Smoothing of the latency moving average. */
+  private static final double LATENCY_SMOOTHING = 0.2;
+  /* Latency assumed for a node before its first announce. */
+  private static final long INITIAL_LATENCY_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final List<NodeStats> nodes;
+  /* Number of nodes each announce is sent to by default. */
+  private final int fanOut;
+  private final Logger logger;
+
+  /**
+   * Constructor.
+   *
+   * @param nodeContexts Api nodes.
+   * @param fanOut Number of nodes each announce is sent to by default.
+   */
+  public AnnounceRouter(final List<CatapultNodeContext> nodeContexts, final int fanOut) {
+    if (nodeContexts.isEmpty()) {
+      throw new IllegalArgumentException("At least one api node is required.");
+    }
+    this.nodes =
+        Collections.unmodifiableList(
+            nodeContexts.stream().map(NodeStats::new).collect(Collectors.toList()));
+    this.fanOut = Math.max(1, Math.min(fanOut, nodes.size()));
+    this.logger = LogManager.getLogger("announce");
+  }
+
+  /**
+   * Sends an announce to the default number of nodes.
+   *
+   * @param action Writes the announce to a node connection.
+   */
+  public void announce(final Consumer<AuthenticatedSocket> action) {
+    announce(action, fanOut);
+  }
+
+  /**
+   * Sends an announce to several nodes. A node that fails is replaced by the next candidate, and
+   * the announce succeeds if at least one node took it.
+   *
+   * @param action Writes the announce to a node connection.
+   * @param nodeCount Number of nodes to send the announce to.
+   */
+  public void announce(final Consumer<AuthenticatedSocket> action, final int nodeCount) {
+    final List<NodeStats> candidates = new ArrayList<>(nodes);
+    int sentCount = 0;
+    RuntimeException lastException = null;
+    while (sentCount < nodeCount && !candidates.isEmpty()) {
+      final NodeStats node = pickNode(candidates);
+      candidates.remove(node);
+      try {
+        node.announce(action);
+        sentCount++;
+      } catch (final RuntimeException ex) {
+        logger.warn("Announce to " + node.getNodeName() + " failed: " + ex.getMessage());
+        lastException = ex;
+      }
+    }
+    if (sentCount == 0) {
+      throw lastException;
+    }
+  }
+
+  /**
+   * Gets the announce counters of each node.
+   *
+   * @return Node statistics.
+   */
+  public List<NodeStats> getNodeStats() {
+    return nodes;
+  }
+
+  /* Weighted random choice, so a fast node does not get all the load. */
+  private NodeStats pickNode(final List<NodeStats> candidates) {
+    final double[] weights = new double[candidates.size()];
+    double totalWeight = 0;
+    for (int i = 0; i < candidates.size(); i++) {
+      weights[i] = candidates.get(i).getWeight();
+      totalWeight += weights[i];
+    }
+    if (totalWeight == 0) {
+      /* Every circuit is open, let the first node report the error. */
+      return candidates.get(0);
+    }
+    double target = ThreadLocalRandom.current().nextDouble(totalWeight);
+    for (int i = 0; i < candidates.size(); i++) {
+      target -= weights[i];
+      if (target < 0) {
+        return candidates.get(i);
+      }
+    }
+    return candidates.get(candidates.size() - 1);
+  }
+
+  /**
+   * Announce statistics of a node. Push packets are not acknowledged by the server, so the latency
+   * is the time taken to write and flush the announce on the node connection.
+   */
+  public static class NodeStats {
+    private final CatapultNodeContext nodeContext;
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicLong announcedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    /* Moving average of the announce latency. */
+    private volatile double averageLatencyInNanos = INITIAL_LATENCY_IN_NANOS;
+
+    NodeStats(final CatapultNodeContext nodeContext) {
+      this.nodeContext = nodeContext;
+    }
+
+    void announce(final Consumer<AuthenticatedSocket> action) {
+      inFlightCount.incrementAndGet();
+      final long startTime = System.nanoTime();
+      try {
+        nodeContext.getConnectionManager().run(action);
+        announcedCount.incrementAndGet();
+        final long latency = System.nanoTime() - startTime;
+        /* Racy updates only lose a sample. */
+        averageLatencyInNanos += LATENCY_SMOOTHING * (latency - averageLatencyInNanos);
+      } catch (final RuntimeException ex) {
+        failedCount.incrementAndGet();
+        throw ex;
+      } finally {
+        inFlightCount.decrementAndGet();
+      }
+    }
+
+    double getWeight() {
+      final NodeConnectionManager.CircuitState circuitState =
+          nodeContext.getConnectionManager().getCircuitState();
+      if (circuitState == NodeConnectionManager.CircuitState.OPEN) {
+        return 0;
+      }
+      final double weight = 1 / (averageLatencyInNanos * (inFlightCount.get() + 1));
+      return circuitState == NodeConnectionManager.CircuitState.HALF_OPEN
+          ? weight * HALF_OPEN_WEIGHT_FACTOR
+          : weight;
+    }
+
+    /**
+     * Gets the node context.
+     *
+     * @return Catapult node context.
+     */
+    public CatapultNodeContext getNodeContext() {
+      return nodeContext;
+    }
+
+    /**
+     * Gets the node name.
+     *
+     * @return Host name and port.
+     */
+    public String getNodeName() {
+      return nodeContext.getHostName() + ":" + nodeContext.getServerPort();
+    }
+
+    /**
+     * Gets the number of announces being sent to the node.
+     *
+     * @return Announces in flight.
+     */
+    public int getInFlightCount() {
+      return inFlightCount.get();
+    }
+
+    /**
+     * Gets the number of announces sent to the node.
+     *
+     * @return Announced count.
+     */
+    public long getAnnouncedCount() {
+      return announcedCount.get();
+    }
+
+    /**
+     * Gets the number of announces that failed on the node.
+     *
+     * @return Failed count.
+     */
+    public long getFailedCount() {
+      return failedCount.get();
+    }
+
+    /**
+     * Gets the average announce latency.
+     *
+     * @return Average latency in milliseconds.
+     */
+    public double getAverageLatencyMilliseconds() {
+      return averageLatencyInNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+  }
+}
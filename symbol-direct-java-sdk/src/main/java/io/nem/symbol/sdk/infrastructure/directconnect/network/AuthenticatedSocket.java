@@ -64,4 +64,18 @@ public class AuthenticatedSocket {
   public SocketClient getSocketClient() {
     return socketClient;
   }
+
+  /**
+   * Checks if the connection is still usable.
+   *
+   * @return True if the socket is open.
+   */
+  public boolean isOpen() {
+    return socketClient.isOpen();
+  }
+
+  /** Closes the connection. */
+  public void close() {
+    socketClient.close();
+  }
 }
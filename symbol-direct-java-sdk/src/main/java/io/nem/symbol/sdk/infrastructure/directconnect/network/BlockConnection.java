@@ -21,16 +21,36 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.network;
 
 import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.database.mongoDb.ChainStatisticInfo;
 import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
 import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
 import io.nem.symbol.catapult.builders.BlockHeaderBuilder;
+import io.reactivex.Flowable;
 
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /** Block connection. */
 public class BlockConnection {
+	/* Number of blocks asked for in each pull request. */
+	public static final int DEFAULT_CHUNK_SIZE = 100;
+	/* Number of pull requests sent before reading the first response. */
+	public static final int DEFAULT_PIPELINE_DEPTH = 4;
+	/* Response size asked for, the node caps it to its own limit. */
+	private static final int MAX_RESPONSE_BYTES = 16 * 1024 * 1024;
+	/* Size of a chain statistics response with the finalized height. */
+	private static final int CHAIN_STATISTICS_WITH_FINALIZED_HEIGHT_SIZE = 32;
+
 	/* Authenticated socket. */
 	final AuthenticatedSocket authenticatedSocket;
+	/* Response timeout. */
+	private final int timeoutInMilliseconds;
 
 	/**
 	 * Constructor.
@@ -38,7 +58,56 @@ public class BlockConnection {
 	 * @param socket Authenticated socket
 	 */
 	public BlockConnection(final AuthenticatedSocket socket) {
+		this(socket, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param socket Authenticated socket
+	 * @param timeoutInMilliseconds Response timeout in milliseconds, zero to wait forever.
+	 */
+	public BlockConnection(final AuthenticatedSocket socket, final int timeoutInMilliseconds) {
 		this.authenticatedSocket = socket;
+		this.timeoutInMilliseconds = timeoutInMilliseconds;
+	}
+
+	/**
+	 * Streams a range of blocks from a node. The blocks are pulled on a dedicated connection, so
+	 * the shared node connection stays free for announces and requests. Chunks are requested as
+	 * the subscriber asks for blocks, and the connection is closed when the stream ends or is
+	 * cancelled.
+	 *
+	 * @param nodeContext Node to pull the blocks from.
+	 * @param fromHeight First height.
+	 * @param toHeight Height after the last one.
+	 * @return Blocks in height order, ending early at the node chain height.
+	 */
+	public static Flowable<PulledBlock> stream(
+			final CatapultNodeContext nodeContext,
+			final BigInteger fromHeight,
+			final BigInteger toHeight) {
+		final int timeoutInMilliseconds = nodeContext.getNetworkTimeoutInMilliseconds();
+		return Flowable.generate(
+				() ->
+						new BlockPull(
+								nodeContext.createAuthenticatedSocket(),
+								fromHeight.longValue(),
+								toHeight.longValue(),
+								DEFAULT_CHUNK_SIZE,
+								DEFAULT_PIPELINE_DEPTH),
+				(pull, emitter) -> {
+					final PulledBlock block =
+							pull.socket
+									.getSocketClient()
+									.exchange(timeoutInMilliseconds, client -> pull.next());
+					if (block == null) {
+						emitter.onComplete();
+					} else {
+						emitter.onNext(block);
+					}
+				},
+				pull -> pull.socket.close());
 	}
 
 	/**
@@ -53,6 +122,181 @@ public class BlockConnection {
 								PacketType.PUSH_BLOCK, transaction.serialize()));
 	}
 
+	/**
+	 * Gets the chain statistics of the node.
+	 *
+	 * @return Chain statistics.
+	 */
+	public ChainStatisticInfo getChainStatistics() {
+		final ByteBuffer response =
+				authenticatedSocket
+						.getSocketClient()
+						.request(PacketType.CHAIN_STATISTICS, timeoutInMilliseconds);
+		final BigInteger height = toUnsignedBigInteger(response.getLong());
+		if (response.limit() == CHAIN_STATISTICS_WITH_FINALIZED_HEIGHT_SIZE) {
+			/* Finalized height. */
+			response.getLong();
+		}
+		final BigInteger scoreHigh = toUnsignedBigInteger(response.getLong());
+		final BigInteger scoreLow = toUnsignedBigInteger(response.getLong());
+		return ChainStatisticInfo.create(height, scoreHigh, scoreLow);
+	}
+
+	/**
+	 * Pulls a range of blocks. The range is requested in chunks, and several chunk requests are
+	 * kept in flight so the node does not wait for each response to be read. Blocks are handed
+	 * over in height order, and the pull ends early when the node has no more blocks.
+	 *
+	 * @param fromHeight First height.
+	 * @param toHeight Height after the last one.
+	 * @param chunkSize Number of blocks asked for in each request.
+	 * @param pipelineDepth Number of requests kept in flight.
+	 * @param consumer Takes each block, returns false to stop the pull.
+	 */
+	public void pullBlocks(
+			final long fromHeight,
+			final long toHeight,
+			final int chunkSize,
+			final int pipelineDepth,
+			final Predicate<PulledBlock> consumer) {
+		authenticatedSocket
+				.getSocketClient()
+				.exchange(
+						timeoutInMilliseconds,
+						client -> {
+							final BlockPull pull =
+									new BlockPull(
+											authenticatedSocket, fromHeight, toHeight, chunkSize, pipelineDepth);
+							try {
+								PulledBlock block = pull.next();
+								while (block != null && consumer.test(block)) {
+									block = pull.next();
+								}
+							} catch (final RuntimeException ex) {
+								/* Drains the responses also when the consumer fails. */
+								try {
+									pull.skipInFlight();
+								} catch (final RuntimeException skipException) {
+									ex.addSuppressed(skipException);
+								}
+								throw ex;
+							}
+							/* Keeps the connection in step for the next exchange. */
+							pull.skipInFlight();
+							return null;
+						});
+	}
+
+	/* Request: height, number of blocks, number of response bytes. */
+	private static byte[] createPullBlocksRequest(final long[] range) {
+		final ByteBuffer request = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+		request.putLong(range[0]);
+		request.putInt((int) range[1]);
+		request.putInt(MAX_RESPONSE_BYTES);
+		return request.array();
+	}
+
+	/* Response: blocks, each prefixed by its size and padded to the entity alignment. */
+	private static long readBlocks(
+			final SocketClient client, final long[] range, final Map<Long, PulledBlock> pending) {
+		final ByteBuffer response = client.readPacket(PacketType.PULL_BLOCKS);
+		long receivedCount = 0;
+		while (response.remaining() >= Integer.BYTES) {
+			final int size = response.getInt(response.position());
+			final byte[] bytes = new byte[size];
+			response.get(bytes);
+			final PulledBlock block = new PulledBlock(bytes);
+			final long height = block.getHeight().longValue();
+			if (height >= range[0] && height < range[0] + range[1]) {
+				pending.put(height, block);
+				receivedCount++;
+			}
+			response.position(
+					Math.min(response.limit(), response.position() + Packet.getPaddingSize(size)));
+		}
+		return receivedCount;
+	}
+
+	/**
+	 * Pull of a range of blocks. The range is requested in chunks, and several chunk requests are
+	 * kept in flight. Chunks are only requested as blocks are taken.
+	 */
+	private static class BlockPull {
+		final AuthenticatedSocket socket;
+		private final int chunkSize;
+		private final int pipelineDepth;
+		/* Ranges as start height and block count. */
+		private final Deque<long[]> inFlight = new ArrayDeque<>();
+		private final Deque<long[]> missing = new ArrayDeque<>();
+		private final Map<Long, PulledBlock> pending = new HashMap<>();
+		private long endHeight;
+		private long nextRequestHeight;
+		private long nextHeight;
+
+		BlockPull(
+				final AuthenticatedSocket socket,
+				final long fromHeight,
+				final long toHeight,
+				final int chunkSize,
+				final int pipelineDepth) {
+			this.socket = socket;
+			this.chunkSize = chunkSize;
+			this.pipelineDepth = pipelineDepth;
+			this.endHeight = toHeight;
+			this.nextRequestHeight = fromHeight;
+			this.nextHeight = fromHeight;
+		}
+
+		/**
+		 * Gets the next block in height order.
+		 *
+		 * @return Next block or null when the range or the node chain ends.
+		 */
+		PulledBlock next() {
+			final SocketClient client = socket.getSocketClient();
+			while (!pending.containsKey(nextHeight) && nextHeight < endHeight) {
+				while (inFlight.size() < pipelineDepth
+						&& (!missing.isEmpty() || nextRequestHeight < endHeight)) {
+					final long[] range;
+					if (missing.isEmpty()) {
+						final long count = Math.min(chunkSize, endHeight - nextRequestHeight);
+						range = new long[] {nextRequestHeight, count};
+						nextRequestHeight += count;
+					} else {
+						range = missing.poll();
+					}
+					client.WritePacket(PacketType.PULL_BLOCKS, createPullBlocksRequest(range));
+					inFlight.add(range);
+				}
+				final long[] range = inFlight.poll();
+				final long receivedCount = readBlocks(client, range, pending);
+				if (receivedCount == 0) {
+					/* The node chain ends before this range. */
+					endHeight = Math.min(endHeight, range[0]);
+				} else if (receivedCount < range[1]) {
+					/* The node capped the response size. */
+					missing.add(new long[] {range[0] + receivedCount, range[1] - receivedCount});
+				}
+			}
+			if (nextHeight >= endHeight) {
+				return null;
+			}
+			return pending.remove(nextHeight++);
+		}
+
+		/** Reads the responses of the requests still in flight. */
+		void skipInFlight() {
+			while (!inFlight.isEmpty()) {
+				inFlight.poll();
+				socket.getSocketClient().readPacket(PacketType.PULL_BLOCKS);
+			}
+		}
+	}
+
+	private static BigInteger toUnsignedBigInteger(final long value) {
+		return new BigInteger(Long.toUnsignedString(value));
+	}
+
 	/**
 	 * Announce a request to the network.
 	 *
@@ -62,8 +306,7 @@ public class BlockConnection {
 	private void announceTransaction(final PacketType packetType, final byte[] transactionBytes) {
 		ExceptionUtils.propagateVoid(
 				() -> {
-					final ByteBuffer ph = Packet.CreatePacketByteBuffer(packetType, transactionBytes);
-					authenticatedSocket.getSocketClient().Write(ph);
+					authenticatedSocket.getSocketClient().WritePacket(packetType, transactionBytes);
 				});
 	}
 }
@@ -20,18 +20,27 @@
 
 package io.nem.symbol.sdk.infrastructure.directconnect.network;
 
+import io.nem.symbol.sdk.infrastructure.directconnect.auth.TlsSocket;
+
+import javax.net.ssl.SSLEngine;
 import java.io.File;
-import java.util.HashMap;
 
 /** Catapult node context. */
 public class CatapultNodeContext {
   /* Network timeout. */
   private static final int NETWORK_TIMEOUT_IN_MILLISECONDS = 10000;
-  /** Map of connections. */
-  private static final HashMap<String, AuthenticatedSocket> clientHashMap = new HashMap<>();
   /* Host name. */
   private final String hostName;
-  private final AuthenticatedSocket authenticatedSocket;
+  /* Api server port. */
+  private final int serverPort;
+  /* Automation host key. */
+  private final File automationKey;
+  /* Automation host certificate. */
+  private final File automationCertificate;
+  /* Node certificate. */
+  private final File nodeCertificate;
+  /* Shared connection to the node. */
+  private final NodeConnectionManager connectionManager;
 
   /**
    * Constructor.
@@ -49,15 +58,13 @@ public class CatapultNodeContext {
       final String hostName,
       final int serverPort) {
     this.hostName = hostName;
-    final String key = hostName + serverPort;
-    if (!clientHashMap.containsKey(key)) {
-      this.authenticatedSocket =
-          AuthenticatedSocket.create(
-              hostName, serverPort, automationKey, automationCertificate, nodeCertificate);
-      clientHashMap.put(key, authenticatedSocket);
-    } else {
-      this.authenticatedSocket = clientHashMap.get(key);
-    }
+    this.serverPort = serverPort;
+    this.automationKey = automationKey;
+    this.automationCertificate = automationCertificate;
+    this.nodeCertificate = nodeCertificate;
+    this.connectionManager =
+        NodeConnectionManager.forNode(
+            hostName, serverPort, automationKey, automationCertificate, nodeCertificate);
   }
 
   /**
@@ -70,11 +77,59 @@ public class CatapultNodeContext {
   }
 
   /**
-   * Gets catapult authenticated socket.
+   * Gets api server port.
+   *
+   * @return Api server port.
+   */
+  public int getServerPort() {
+    return serverPort;
+  }
+
+  /**
+   * Gets the timeout of the requests to the node.
+   *
+   * @return Network timeout in milliseconds.
+   */
+  public int getNetworkTimeoutInMilliseconds() {
+    return NETWORK_TIMEOUT_IN_MILLISECONDS;
+  }
+
+  /**
+   * Opens a new authenticated socket to the node. The socket is not cached and it is the caller
+   * responsibility to close it.
+   *
+   * @return New catapult authenticated socket.
+   */
+  public AuthenticatedSocket createAuthenticatedSocket() {
+    return AuthenticatedSocket.create(
+        hostName, serverPort, automationKey, automationCertificate, nodeCertificate);
+  }
+
+  /**
+   * Creates a TLS engine to connect to the node without blocking.
+   *
+   * @return TLS engine in client mode.
+   */
+  public SSLEngine createSSLEngine() {
+    return TlsSocket.creaate(automationKey, automationCertificate, nodeCertificate)
+        .createEngine(hostName, serverPort);
+  }
+
+  /**
+   * Gets catapult authenticated socket, reconnecting if the previous one is closed.
    *
    * @return Catapult authenticated socket.
    */
   public AuthenticatedSocket getAuthenticatedSocket() {
-    return authenticatedSocket;
+    return connectionManager.getSocket();
+  }
+
+  /**
+   * Gets the manager of the shared connection to the node.
+   *
+   * @return Node connection manager.
+   */
+  public NodeConnectionManager getConnectionManager() {
+    return connectionManager;
   }
 }
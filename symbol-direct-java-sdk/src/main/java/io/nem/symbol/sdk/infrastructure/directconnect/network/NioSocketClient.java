@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.auth.TlsHandshakeMetrics;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketHeader;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Non-blocking TLS connection to the catapult server. All the network work is done on the {@link
+ * SocketSelector} thread, packets are read incrementally using the packet header size and handed
+ * to the {@link PacketHandler} once complete.
+ */
+public class NioSocketClient {
+  /* Empty buffer used to drive the handshake. */
+  private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+  /* Server connection. */
+  private final SocketChannel channel;
+  /* TLS engine. */
+  private final SSLEngine engine;
+  /* Packet handler. */
+  private final PacketHandler handler;
+  /* Selector driving the connection. */
+  private final SocketSelector socketSelector;
+  /* Packets waiting to be encrypted. */
+  private final Queue<ByteBuffer> pendingWrites;
+  /* Completes once the TLS handshake is done. */
+  private final CompletableFuture<NioSocketClient> connectedFuture;
+  /* Encrypted bytes read from the server. */
+  private ByteBuffer netIn;
+  /* Encrypted bytes waiting to be sent to the server. */
+  private ByteBuffer netOut;
+  /* Decrypted bytes read from the server. */
+  private ByteBuffer appIn;
+  private SelectionKey selectionKey;
+  private boolean handshakeComplete;
+  /* Handshake start, for the handshake metrics. */
+  private long handshakeStartTime;
+  private long handshakeStartTimeMillis;
+  private volatile boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param channel Unconnected socket channel.
+   * @param engine Client TLS engine.
+   * @param handler Packet handler.
+   * @param socketSelector Selector driving the connection.
+   */
+  NioSocketClient(
+      final SocketChannel channel,
+      final SSLEngine engine,
+      final PacketHandler handler,
+      final SocketSelector socketSelector) {
+    this.channel = channel;
+    this.engine = engine;
+    this.handler = handler;
+    this.socketSelector = socketSelector;
+    this.pendingWrites = new ConcurrentLinkedQueue<>();
+    this.connectedFuture = new CompletableFuture<>();
+    final int packetBufferSize = engine.getSession().getPacketBufferSize();
+    final int applicationBufferSize = engine.getSession().getApplicationBufferSize();
+    this.netIn = ByteBuffer.allocate(packetBufferSize);
+    this.netOut = ByteBuffer.allocate(packetBufferSize);
+    this.appIn = ByteBuffer.allocate(applicationBufferSize).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Gets a future completed once the connection is ready to send packets.
+   *
+   * @return Connected future.
+   */
+  public CompletableFuture<NioSocketClient> getConnectedFuture() {
+    return connectedFuture;
+  }
+
+  /**
+   * Queues a packet to be sent to the server. Can be called from any thread.
+   *
+   * @param packetType Packet type.
+   * @param bytes Packet data.
+   */
+  public void WritePacket(final PacketType packetType, final byte[] bytes) {
+    Write(Packet.CreatePacketByteBuffer(packetType, bytes));
+  }
+
+  /**
+   * Queues data to be sent to the server. Can be called from any thread.
+   *
+   * @param byteBuffer Data from the current position to the limit.
+   */
+  public void Write(final ByteBuffer byteBuffer) {
+    if (closed) {
+      throw new IllegalStateException("Connection is closed.");
+    }
+    pendingWrites.add(byteBuffer);
+    socketSelector.execute(this::enableWrite);
+  }
+
+  /** Closes the connection. */
+  public void close() {
+    socketSelector.execute(this::closeChannel);
+  }
+
+  /**
+   * Checks if the connection is closed.
+   *
+   * @return True if closed.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Registers the connection with the selector. Called on the selector thread.
+   *
+   * @param selector Selector.
+   */
+  void register(final Selector selector) throws IOException {
+    if (channel.isConnected()) {
+      selectionKey = channel.register(selector, SelectionKey.OP_READ, this);
+      startHandshake();
+    } else {
+      selectionKey = channel.register(selector, SelectionKey.OP_CONNECT, this);
+    }
+  }
+
+  /** Called on the selector thread when the connection is established. */
+  void onConnectable() throws IOException {
+    if (channel.finishConnect()) {
+      startHandshake();
+    }
+  }
+
+  /** Called on the selector thread when data can be read. */
+  void onReadable() throws IOException {
+    final int readSize = channel.read(netIn);
+    if (readSize == -1) {
+      throw new IOException("Connection closed by the server.");
+    }
+    if (!handshakeComplete) {
+      doHandshake();
+    }
+    if (handshakeComplete) {
+      while (unwrap()) {
+        readPackets();
+      }
+      readPackets();
+    }
+    updateInterestOps();
+  }
+
+  /** Called on the selector thread when data can be written. */
+  void onWritable() throws IOException {
+    if (flushNetOut()) {
+      if (handshakeComplete) {
+        writePending();
+      } else {
+        doHandshake();
+      }
+    }
+    updateInterestOps();
+  }
+
+  /**
+   * Called on the selector thread when the connection failed.
+   *
+   * @param error Failure.
+   */
+  void onError(final Throwable error) {
+    connectedFuture.completeExceptionally(error);
+    handler.handleError(this, error);
+    closeChannel();
+  }
+
+  private void enableWrite() {
+    if (selectionKey != null && selectionKey.isValid() && handshakeComplete) {
+      selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_WRITE);
+    }
+  }
+
+  void closeChannel() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    engine.closeOutbound();
+    if (selectionKey != null) {
+      selectionKey.cancel();
+    }
+    ExceptionUtils.propagateVoid(channel::close);
+    connectedFuture.completeExceptionally(new IllegalStateException("Connection is closed."));
+  }
+
+  private void startHandshake() throws IOException {
+    handshakeStartTime = System.nanoTime();
+    handshakeStartTimeMillis = System.currentTimeMillis();
+    engine.beginHandshake();
+    doHandshake();
+    updateInterestOps();
+  }
+
+  /* Only ask for write readiness when something is waiting to be sent. */
+  private void updateInterestOps() {
+    if (!selectionKey.isValid()) {
+      return;
+    }
+    final boolean hasPendingWrites =
+        netOut.position() > 0 || (handshakeComplete && !pendingWrites.isEmpty());
+    selectionKey.interestOps(
+        hasPendingWrites ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+  }
+
+  private void writePending() throws IOException {
+    while (!pendingWrites.isEmpty()) {
+      final ByteBuffer next = pendingWrites.peek();
+      final SSLEngineResult result = engine.wrap(next, netOut);
+      checkNotClosed(result);
+      if (!next.hasRemaining()) {
+        pendingWrites.poll();
+      }
+      if (!flushNetOut()) {
+        return;
+      }
+    }
+  }
+
+  private void doHandshake() throws IOException {
+    while (true) {
+      switch (engine.getHandshakeStatus()) {
+        case NEED_TASK:
+          Runnable task;
+          while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+          }
+          break;
+        case NEED_WRAP:
+          final SSLEngineResult result = engine.wrap(EMPTY_BUFFER, netOut);
+          checkNotClosed(result);
+          if (!flushNetOut()) {
+            return;
+          }
+          break;
+        case FINISHED:
+        case NOT_HANDSHAKING:
+          handshakeComplete = true;
+          TlsHandshakeMetrics.record(
+              System.nanoTime() - handshakeStartTime,
+              engine.getSession(),
+              handshakeStartTimeMillis);
+          connectedFuture.complete(this);
+          return;
+        default:
+          if (!unwrap()) {
+            return;
+          }
+          break;
+      }
+    }
+  }
+
+  /**
+   * Decrypts the data read from the server.
+   *
+   * @return True if some data has been consumed.
+   */
+  private boolean unwrap() throws SSLException {
+    netIn.flip();
+    final SSLEngineResult result;
+    try {
+      result = engine.unwrap(netIn, appIn);
+    } finally {
+      netIn.compact();
+    }
+    switch (result.getStatus()) {
+      case BUFFER_UNDERFLOW:
+        netIn = ensureCapacity(netIn, engine.getSession().getPacketBufferSize());
+        return false;
+      case BUFFER_OVERFLOW:
+        appIn = ensureCapacity(appIn, engine.getSession().getApplicationBufferSize());
+        return true;
+      case CLOSED:
+        throw new SSLException("Connection closed by the server.");
+      default:
+        return result.bytesConsumed() > 0 || result.bytesProduced() > 0;
+    }
+  }
+
+  /* Hands the complete packets to the handler. */
+  private void readPackets() {
+    appIn.flip();
+    int requiredSize = 0;
+    while (appIn.remaining() >= PacketHeader.SIZE) {
+      final int packetSize = appIn.getInt(appIn.position());
+      if (packetSize < PacketHeader.SIZE) {
+        throw new IllegalStateException("Invalid packet size " + packetSize);
+      }
+      if (appIn.remaining() < packetSize) {
+        requiredSize = packetSize;
+        break;
+      }
+      final ByteBuffer packetBuffer = appIn.slice();
+      packetBuffer.limit(packetSize);
+      appIn.position(appIn.position() + packetSize);
+      handler.handlePacket(this, new Packet(packetBuffer));
+    }
+    appIn.compact();
+    if (requiredSize > appIn.capacity()) {
+      appIn = ensureCapacity(appIn, requiredSize - appIn.position());
+    }
+  }
+
+  /**
+   * Sends the encrypted data waiting to the server.
+   *
+   * @return True if all the data has been sent.
+   */
+  private boolean flushNetOut() throws IOException {
+    netOut.flip();
+    try {
+      channel.write(netOut);
+      return !netOut.hasRemaining();
+    } finally {
+      netOut.compact();
+    }
+  }
+
+  private static void checkNotClosed(final SSLEngineResult result) throws SSLException {
+    if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+      throw new SSLException("Connection closed.");
+    }
+  }
+
+  /* Buffer must be in write mode. */
+  private static ByteBuffer ensureCapacity(final ByteBuffer buffer, final int minimumFreeSpace) {
+    if (buffer.remaining() >= minimumFreeSpace) {
+      return buffer;
+    }
+    final ByteBuffer newBuffer =
+        ByteBuffer.allocate(buffer.position() + minimumFreeSpace).order(buffer.order());
+    buffer.flip();
+    newBuffer.put(buffer);
+    return newBuffer;
+  }
+}
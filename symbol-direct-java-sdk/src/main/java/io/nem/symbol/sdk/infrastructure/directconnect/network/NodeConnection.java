@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.NodeTime;
+import io.nem.symbol.sdk.model.node.RoleType;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Node information and time requests over an authenticated connection. */
+public class NodeConnection {
+  /* Size of a network node without the optional generation hash seed, host and friendly name. */
+  private static final int NETWORK_NODE_BASE_SIZE = 49;
+  /* Size of the network generation hash seed. */
+  private static final int GENERATION_HASH_SEED_SIZE = 32;
+  /* Size of the identity key. */
+  private static final int KEY_SIZE = 32;
+
+  /* Authenticated socket. */
+  private final AuthenticatedSocket authenticatedSocket;
+  /* Response timeout. */
+  private final int timeoutInMilliseconds;
+
+  /**
+   * Constructor.
+   *
+   * @param socket Authenticated socket.
+   * @param timeoutInMilliseconds Response timeout in milliseconds.
+   */
+  public NodeConnection(final AuthenticatedSocket socket, final int timeoutInMilliseconds) {
+    this.authenticatedSocket = socket;
+    this.timeoutInMilliseconds = timeoutInMilliseconds;
+  }
+
+  /**
+   * Gets the node information.
+   *
+   * @param defaultGenerationHashSeed Generation hash seed used when the node does not send it.
+   * @return Node information.
+   */
+  public NodeInfo getNodeInfo(final String defaultGenerationHashSeed) {
+    final ByteBuffer response =
+        authenticatedSocket
+            .getSocketClient()
+            .request(PacketType.NODE_DISCOVERY_PULL_PING, timeoutInMilliseconds);
+    return toNodeInfo(response, defaultGenerationHashSeed);
+  }
+
+  /**
+   * Gets the peers the node is connected to.
+   *
+   * @param defaultGenerationHashSeed Generation hash seed used when a peer does not send it.
+   * @return Peer nodes information.
+   */
+  public List<NodeInfo> getNodePeers(final String defaultGenerationHashSeed) {
+    final ByteBuffer response =
+        authenticatedSocket
+            .getSocketClient()
+            .request(PacketType.NODE_DISCOVERY_PULL_PEERS, timeoutInMilliseconds);
+    final List<NodeInfo> peers = new ArrayList<>();
+    while (response.remaining() >= NETWORK_NODE_BASE_SIZE) {
+      final int size = response.getInt(response.position());
+      if (size < NETWORK_NODE_BASE_SIZE || size > response.remaining()) {
+        throw new IllegalStateException("Malformed peer of size " + size + " in the response.");
+      }
+      final ByteBuffer node = response.slice().order(ByteOrder.LITTLE_ENDIAN);
+      node.limit(size);
+      peers.add(toNodeInfo(node, defaultGenerationHashSeed));
+      response.position(
+          Math.min(response.limit(), response.position() + size + Packet.getPaddingSize(size)));
+    }
+    return peers;
+  }
+
+  /**
+   * Gets the node network time.
+   *
+   * @return Node time.
+   */
+  public NodeTime getNodeTime() {
+    final ByteBuffer response =
+        authenticatedSocket
+            .getSocketClient()
+            .request(PacketType.TIME_SYNC_NODE_TIME, timeoutInMilliseconds);
+    final BigInteger sendTimestamp = toUnsignedBigInteger(response.getLong());
+    final BigInteger receiveTimestamp = toUnsignedBigInteger(response.getLong());
+    return new NodeTime(sendTimestamp, receiveTimestamp);
+  }
+
+  /*
+   * Network node layout: size, identity key, [generation hash seed], port, network identifier,
+   * version, roles, host size, friendly name size, host, friendly name. Older servers do not send
+   * the generation hash seed, which is detected from the string sizes matching the entity size.
+   */
+  private static NodeInfo toNodeInfo(
+      final ByteBuffer buffer, final String defaultGenerationHashSeed) {
+    final int size = buffer.getInt();
+    final byte[] identityKey = new byte[KEY_SIZE];
+    buffer.get(identityKey);
+    final String generationHashSeed;
+    if (hasGenerationHashSeed(buffer, size)) {
+      final byte[] seed = new byte[GENERATION_HASH_SEED_SIZE];
+      buffer.get(seed);
+      generationHashSeed = ConvertUtils.toHex(seed);
+    } else {
+      generationHashSeed = defaultGenerationHashSeed;
+    }
+    final int port = Short.toUnsignedInt(buffer.getShort());
+    final int networkIdentifier = Byte.toUnsignedInt(buffer.get());
+    final int version = buffer.getInt();
+    final int roles = buffer.getInt();
+    final int hostSize = Byte.toUnsignedInt(buffer.get());
+    final int friendlyNameSize = Byte.toUnsignedInt(buffer.get());
+    final String host = readString(buffer, hostSize);
+    final String friendlyName = readString(buffer, friendlyNameSize);
+    return new NodeInfo(
+        ConvertUtils.toHex(identityKey),
+        generationHashSeed,
+        port,
+        networkIdentifier,
+        version,
+        toRoleTypes(roles),
+        host,
+        friendlyName);
+  }
+
+  private static boolean hasGenerationHashSeed(final ByteBuffer buffer, final int size) {
+    final int baseSize = NETWORK_NODE_BASE_SIZE + GENERATION_HASH_SEED_SIZE;
+    if (size < baseSize || buffer.limit() < baseSize) {
+      return false;
+    }
+    final int stringsSize =
+        Byte.toUnsignedInt(buffer.get(baseSize - 2)) + Byte.toUnsignedInt(buffer.get(baseSize - 1));
+    return size == baseSize + stringsSize;
+  }
+
+  private static List<RoleType> toRoleTypes(final int roles) {
+    return Arrays.stream(RoleType.values())
+        .filter(roleType -> (roles & roleType.getValue()) != 0)
+        .collect(Collectors.toList());
+  }
+
+  private static String readString(final ByteBuffer buffer, final int size) {
+    final byte[] bytes = new byte[size];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static BigInteger toUnsignedBigInteger(final long value) {
+    return new BigInteger(Long.toUnsignedString(value));
+  }
+}
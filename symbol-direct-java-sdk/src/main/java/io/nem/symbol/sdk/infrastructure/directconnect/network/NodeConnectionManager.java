@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps the shared connection to a catapult node. A connection that fails is closed and replaced.
+ * Connection attempts back off with jitter, and after repeated failures the circuit opens so calls
+ * fail fast until the next trial. Replacements are connected in the background without holding
+ * the manager lock, and callers that need a connection while one is pending wait for it instead of
+ * opening another.
+ */
+public class NodeConnectionManager {
+  /* Consecutive connection failures that open the circuit. */
+  private static final int FAILURE_THRESHOLD = 5;
+  /* How long the circuit stays open before a trial connection. */
+  private static final long OPEN_CIRCUIT_MILLISECONDS = 10000;
+  /* Backoff after the first connection failure, doubled on each failure. */
+  private static final long BASE_BACKOFF_MILLISECONDS = 100;
+  /* Longest backoff between connection attempts. */
+  private static final long MAX_BACKOFF_MILLISECONDS = 5000;
+  /* Connection managers by node and client identity. */
+  private static final Map<String, NodeConnectionManager> MANAGERS = new ConcurrentHashMap<>();
+  /* Background connections, shared by all the nodes. */
+  private static final ScheduledExecutorService WARM_UP_EXECUTOR =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "node-connection-warm-up");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final String hostName;
+  private final int port;
+  private final File clientKey;
+  private final File clientCertificate;
+  private final File nodeCertificate;
+  private final Logger logger;
+  private final AtomicLong connectCount = new AtomicLong();
+  private final AtomicLong connectFailureCount = new AtomicLong();
+  /* Current connection, null when it has to be replaced. */
+  private AuthenticatedSocket socket;
+  /* Connection being opened, null when no connection attempt is in progress. */
+  private CompletableFuture<AuthenticatedSocket> pendingConnection;
+  private int consecutiveFailures;
+  /* Time before which no connection is attempted in the foreground. */
+  private long nextAttemptTime;
+  private boolean warmUpScheduled;
+
+  private NodeConnectionManager(
+      final String hostName,
+      final int port,
+      final File clientKey,
+      final File clientCertificate,
+      final File nodeCertificate) {
+    this.hostName = hostName;
+    this.port = port;
+    this.clientKey = clientKey;
+    this.clientCertificate = clientCertificate;
+    this.nodeCertificate = nodeCertificate;
+    this.logger = LogManager.getLogger("network");
+  }
+
+  /**
+   * Gets the connection manager of a node and client identity, creating it on first use. The first
+   * connection is opened in the background.
+   *
+   * @param hostName Host name.
+   * @param port Api server port.
+   * @param clientKey Client key file.
+   * @param clientCertificate Client certificate file.
+   * @param nodeCertificate Node certificate file.
+   * @return Connection manager.
+   */
+  public static NodeConnectionManager forNode(
+      final String hostName,
+      final int port,
+      final File clientKey,
+      final File clientCertificate,
+      final File nodeCertificate) {
+    final String key =
+        String.join(
+            "|",
+            hostName + ":" + port,
+            clientKey.getAbsolutePath(),
+            clientCertificate.getAbsolutePath(),
+            nodeCertificate.getAbsolutePath());
+    return MANAGERS.computeIfAbsent(
+        key,
+        k -> {
+          final NodeConnectionManager manager =
+              new NodeConnectionManager(
+                  hostName, port, clientKey, clientCertificate, nodeCertificate);
+          manager.scheduleWarmUp(0);
+          return manager;
+        });
+  }
+
+  /**
+   * Gets an open connection to the node, connecting if needed. If a connection is already being
+   * opened, waits for it.
+   *
+   * @return Authenticated socket.
+   */
+  public AuthenticatedSocket getSocket() {
+    final CompletableFuture<AuthenticatedSocket> connection;
+    final boolean owner;
+    synchronized (this) {
+      if (socket != null && socket.isOpen()) {
+        return socket;
+      }
+      owner = pendingConnection == null;
+      if (owner) {
+        checkAvailable();
+        pendingConnection = new CompletableFuture<>();
+      }
+      connection = pendingConnection;
+    }
+    if (owner) {
+      connect(connection);
+    }
+    try {
+      return connection.join();
+    } catch (final CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Opens a dedicated connection to the node, for callers that need more than the shared one.
+   * Fails fast while the circuit is open, and a failed attempt counts toward opening it. The
+   * socket is not cached and it is the caller responsibility to close it.
+   *
+   * @return New authenticated socket.
+   */
+  public AuthenticatedSocket openSocket() {
+    synchronized (this) {
+      checkAvailable();
+    }
+    final AuthenticatedSocket created;
+    try {
+      created =
+          AuthenticatedSocket.create(
+              hostName, port, clientKey, clientCertificate, nodeCertificate);
+    } catch (final RuntimeException ex) {
+      synchronized (this) {
+        onConnectFailure(ex);
+      }
+      throw ex;
+    }
+    synchronized (this) {
+      consecutiveFailures = 0;
+      nextAttemptTime = 0;
+    }
+    connectCount.incrementAndGet();
+    return created;
+  }
+
+  /**
+   * Runs an action on the node connection. If the connection fails the connection is replaced and
+   * the action is retried once. A timeout also replaces the connection, since a late reply would
+   * be read by the next caller, but it is not retried since the request may have reached the
+   * node. Other failures are rethrown and leave the connection alone.
+   *
+   * @param action Action using the connection.
+   * @param <T> Result type.
+   * @return Action result.
+   */
+  public <T> T execute(final Function<AuthenticatedSocket, T> action) {
+    final AuthenticatedSocket current = getSocket();
+    try {
+      return action.apply(current);
+    } catch (final RuntimeException ex) {
+      final IOException cause = getIOCause(ex);
+      if (cause == null) {
+        throw ex;
+      }
+      invalidate(current);
+      if (cause instanceof SocketTimeoutException) {
+        throw ex;
+      }
+      logger.warn(
+          "Connection to " + hostName + ":" + port + " failed, reconnecting: " + ex.getMessage());
+      return action.apply(getSocket());
+    }
+  }
+
+  /**
+   * Runs an action on the node connection, retrying it once on a new connection if the connection
+   * fails.
+   *
+   * @param action Action using the connection.
+   */
+  public void run(final Consumer<AuthenticatedSocket> action) {
+    execute(
+        socket -> {
+          action.accept(socket);
+          return socket;
+        });
+  }
+
+  /**
+   * Closes a broken connection and starts opening a new one in the background.
+   *
+   * @param brokenSocket Connection that failed.
+   */
+  public void invalidate(final AuthenticatedSocket brokenSocket) {
+    synchronized (this) {
+      if (socket == brokenSocket) {
+        socket = null;
+      }
+    }
+    brokenSocket.close();
+    scheduleWarmUp(0);
+  }
+
+  /**
+   * Gets the circuit state.
+   *
+   * @return Circuit state.
+   */
+  public synchronized CircuitState getCircuitState() {
+    if (consecutiveFailures < FAILURE_THRESHOLD) {
+      return CircuitState.CLOSED;
+    }
+    return System.currentTimeMillis() < nextAttemptTime
+        ? CircuitState.OPEN
+        : CircuitState.HALF_OPEN;
+  }
+
+  /**
+   * Gets the number of connections opened.
+   *
+   * @return Connection count.
+   */
+  public long getConnectCount() {
+    return connectCount.get();
+  }
+
+  /**
+   * Gets the number of failed connection attempts.
+   *
+   * @return Connection failure count.
+   */
+  public long getConnectFailureCount() {
+    return connectFailureCount.get();
+  }
+
+  /* Opens the connection without the lock held, then publishes it to the waiting callers. */
+  private void connect(final CompletableFuture<AuthenticatedSocket> connection) {
+    final AuthenticatedSocket created;
+    try {
+      created =
+          AuthenticatedSocket.create(
+              hostName, port, clientKey, clientCertificate, nodeCertificate);
+    } catch (final RuntimeException ex) {
+      synchronized (this) {
+        pendingConnection = null;
+        onConnectFailure(ex);
+      }
+      connection.completeExceptionally(ex);
+      return;
+    }
+    synchronized (this) {
+      pendingConnection = null;
+      socket = created;
+      consecutiveFailures = 0;
+      nextAttemptTime = 0;
+    }
+    connectCount.incrementAndGet();
+    connection.complete(created);
+  }
+
+  /* I/O failure that caused an exception, null when the failure is not from the connection. */
+  private static IOException getIOCause(final Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException) {
+        return (IOException) cause;
+      }
+    }
+    return null;
+  }
+
+  /* Called with the lock held. */
+  private void checkAvailable() {
+    final long waitTime = nextAttemptTime - System.currentTimeMillis();
+    if (waitTime > 0) {
+      throw new IllegalStateException(
+          "Node "
+              + hostName
+              + ":"
+              + port
+              + " is unavailable, next connection attempt in "
+              + waitTime
+              + " ms.");
+    }
+  }
+
+  /* Called with the lock held. */
+  private void onConnectFailure(final RuntimeException ex) {
+    connectFailureCount.incrementAndGet();
+    consecutiveFailures++;
+    final long delay =
+        consecutiveFailures >= FAILURE_THRESHOLD ? OPEN_CIRCUIT_MILLISECONDS : getBackoff();
+    nextAttemptTime = System.currentTimeMillis() + delay;
+    logger.warn(
+        "Failed to connect to "
+            + hostName
+            + ":"
+            + port
+            + " ("
+            + consecutiveFailures
+            + " in a row), retrying in "
+            + delay
+            + " ms: "
+            + ex.getMessage());
+    scheduleWarmUp(delay);
+  }
+
+  /* Exponential backoff with jitter, so clients of a restarted node do not retry in step. */
+  private long getBackoff() {
+    final long backoff =
+        Math.min(
+            MAX_BACKOFF_MILLISECONDS,
+            BASE_BACKOFF_MILLISECONDS << Math.min(consecutiveFailures - 1, 16));
+    return ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+  }
+
+  private synchronized void scheduleWarmUp(final long delay) {
+    if (!warmUpScheduled) {
+      warmUpScheduled = true;
+      WARM_UP_EXECUTOR.schedule(this::warmUp, delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void warmUp() {
+    final CompletableFuture<AuthenticatedSocket> connection;
+    synchronized (this) {
+      warmUpScheduled = false;
+      if ((socket != null && socket.isOpen()) || pendingConnection != null) {
+        return;
+      }
+      final long waitTime = nextAttemptTime - System.currentTimeMillis();
+      if (waitTime > 0) {
+        scheduleWarmUp(waitTime);
+        return;
+      }
+      pendingConnection = new CompletableFuture<>();
+      connection = pendingConnection;
+    }
+    /* A failure reschedules the warm up. */
+    connect(connection);
+  }
+
+  /** Circuit breaker state. */
+  public enum CircuitState {
+    /* Connections are attempted normally. */
+    CLOSED,
+    /* Calls fail fast until the next trial connection. */
+    OPEN,
+    /* The next call makes a trial connection. */
+    HALF_OPEN
+  }
+}
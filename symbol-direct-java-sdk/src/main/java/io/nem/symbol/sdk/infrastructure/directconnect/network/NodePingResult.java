@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.sdk.model.node.NodeTime;
+
+import java.util.Optional;
+
+/** Result of a time sync ping to a node. */
+public class NodePingResult {
+  /* Pinged node. */
+  private final CatapultNodeContext nodeContext;
+  /* Node time, null if the node did not answer. */
+  private final NodeTime nodeTime;
+  /* Request round trip in milliseconds. */
+  private final long roundTripMilliseconds;
+  /* Node clock minus the local clock in milliseconds, null if unknown. */
+  private final Long clockOffsetMilliseconds;
+  /* Failure, null if the node answered. */
+  private final Exception error;
+
+  private NodePingResult(
+      final CatapultNodeContext nodeContext,
+      final NodeTime nodeTime,
+      final long roundTripMilliseconds,
+      final Long clockOffsetMilliseconds,
+      final Exception error) {
+    this.nodeContext = nodeContext;
+    this.nodeTime = nodeTime;
+    this.roundTripMilliseconds = roundTripMilliseconds;
+    this.clockOffsetMilliseconds = clockOffsetMilliseconds;
+    this.error = error;
+  }
+
+  /**
+   * Creates the result of a node that answered.
+   *
+   * @param nodeContext Pinged node.
+   * @param nodeTime Node time.
+   * @param roundTripMilliseconds Request round trip in milliseconds.
+   * @param clockOffsetMilliseconds Node clock minus the local clock, null if unknown.
+   * @return Ping result.
+   */
+  public static NodePingResult reachable(
+      final CatapultNodeContext nodeContext,
+      final NodeTime nodeTime,
+      final long roundTripMilliseconds,
+      final Long clockOffsetMilliseconds) {
+    return new NodePingResult(
+        nodeContext, nodeTime, roundTripMilliseconds, clockOffsetMilliseconds, null);
+  }
+
+  /**
+   * Creates the result of a node that did not answer.
+   *
+   * @param nodeContext Pinged node.
+   * @param roundTripMilliseconds Time until the failure in milliseconds.
+   * @param error Failure.
+   * @return Ping result.
+   */
+  public static NodePingResult unreachable(
+      final CatapultNodeContext nodeContext,
+      final long roundTripMilliseconds,
+      final Exception error) {
+    return new NodePingResult(nodeContext, null, roundTripMilliseconds, null, error);
+  }
+
+  /**
+   * Gets the pinged node.
+   *
+   * @return Catapult node context.
+   */
+  public CatapultNodeContext getNodeContext() {
+    return nodeContext;
+  }
+
+  /**
+   * Checks if the node answered.
+   *
+   * @return True if the node is reachable.
+   */
+  public boolean isReachable() {
+    return error == null;
+  }
+
+  /**
+   * Gets the node time.
+   *
+   * @return Node time, empty if the node did not answer.
+   */
+  public Optional<NodeTime> getNodeTime() {
+    return Optional.ofNullable(nodeTime);
+  }
+
+  /**
+   * Gets the request round trip.
+   *
+   * @return Round trip in milliseconds.
+   */
+  public long getRoundTripMilliseconds() {
+    return roundTripMilliseconds;
+  }
+
+  /**
+   * Gets the node clock offset, estimated from the request and response times.
+   *
+   * @return Node clock minus the local clock in milliseconds, empty if unknown.
+   */
+  public Optional<Long> getClockOffsetMilliseconds() {
+    return Optional.ofNullable(clockOffsetMilliseconds);
+  }
+
+  /**
+   * Gets the failure.
+   *
+   * @return Failure, empty if the node answered.
+   */
+  public Optional<Exception> getError() {
+    return Optional.ofNullable(error);
+  }
+}
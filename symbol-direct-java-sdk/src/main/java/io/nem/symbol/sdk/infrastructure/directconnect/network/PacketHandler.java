@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
+
+/** Handles the packets received on a non-blocking connection. */
+public interface PacketHandler {
+  /**
+   * Handles a complete packet. Called on the selector thread.
+   *
+   * @param client Connection that received the packet.
+   * @param packet Packet received.
+   */
+  void handlePacket(final NioSocketClient client, final Packet packet);
+
+  /**
+   * Handles a connection failure. The connection is closed after this call.
+   *
+   * @param client Connection that failed.
+   * @param error Failure.
+   */
+  default void handleError(final NioSocketClient client, final Throwable error) {}
+}
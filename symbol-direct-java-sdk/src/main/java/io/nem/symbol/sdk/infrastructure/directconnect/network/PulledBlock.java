@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.catapult.builders.BlockHeaderBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.math.BigInteger;
+
+/** Block pulled from a node, with its transactions kept in binary form. */
+public class PulledBlock {
+  /* Block header. */
+  private final BlockHeaderBuilder header;
+  /* Serialized block, including the transactions. */
+  private final byte[] bytes;
+
+  /**
+   * Constructor.
+   *
+   * @param bytes Serialized block.
+   */
+  public PulledBlock(final byte[] bytes) {
+    this.bytes = bytes;
+    this.header =
+        BlockHeaderBuilder.loadFromBinary(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+  /**
+   * Gets the block header.
+   *
+   * @return Block header.
+   */
+  public BlockHeaderBuilder getHeader() {
+    return header;
+  }
+
+  /**
+   * Gets the block height.
+   *
+   * @return Block height.
+   */
+  public BigInteger getHeight() {
+    return BigInteger.valueOf(header.getHeight().getHeight());
+  }
+
+  /**
+   * Gets the serialized block, including the transactions.
+   *
+   * @return Block bytes.
+   */
+  public byte[] getBytes() {
+    return bytes;
+  }
+}
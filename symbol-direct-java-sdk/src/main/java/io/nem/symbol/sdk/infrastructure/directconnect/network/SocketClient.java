@@ -21,16 +21,36 @@
 package io.nem.symbol.sdk.infrastructure.directconnect.network;
 
 import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketHeader;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
 
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 /** Connection to the catapult server. */
 public class SocketClient {
+  /* Size of the write buffer. Matches the max TLS record size. */
+  private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+  /* Zero bytes used to pad entities. */
+  private static final byte[] PADDING = new byte[Packet.ENTITY_ALIGNMENT];
   /* Server connection. */
   private final Socket socket;
+  /* Buffered server output stream. */
+  private final OutputStream outputStream;
+  /* Reusable packet header. */
+  private final ByteBuffer headerBuffer;
+  /* Reusable buffer used to copy data out of direct buffers. */
+  private final byte[] transferBuffer;
 
   /**
    * Constructor.
@@ -39,6 +59,11 @@ public class SocketClient {
    */
   private SocketClient(final Socket socket) {
     this.socket = socket;
+    this.outputStream =
+        ExceptionUtils.propagate(
+            () -> new BufferedOutputStream(socket.getOutputStream(), WRITE_BUFFER_SIZE));
+    this.headerBuffer = ByteBuffer.allocate(PacketHeader.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    this.transferBuffer = new byte[WRITE_BUFFER_SIZE];
   }
 
   /**
@@ -80,14 +105,154 @@ public class SocketClient {
    *
    * @param byteBuffer byte buffer
    */
-  public void Write(final ByteBuffer byteBuffer) {
+  public synchronized void Write(final ByteBuffer byteBuffer) {
     ExceptionUtils.propagateVoid(
         () -> {
-          final OutputStream outStream = socket.getOutputStream();
-          outStream.write(byteBuffer.array());
+          if (byteBuffer.hasArray()) {
+            outputStream.write(byteBuffer.array());
+          } else {
+            writeDirect(byteBuffer.duplicate());
+          }
+          outputStream.flush();
         });
   }
 
+  /**
+   * Write a packet to the server. The header and entities are written straight to the socket
+   * stream without building an intermediate packet buffer.
+   *
+   * @param packetType Packet type.
+   * @param entities Serialized entities. All the entities but the last are padded to the packet
+   *     entity alignment.
+   */
+  public synchronized void WritePacket(final PacketType packetType, final List<byte[]> entities) {
+    ExceptionUtils.propagateVoid(
+        () -> {
+          int packetSize = PacketHeader.SIZE;
+          for (int i = 0; i < entities.size(); i++) {
+            packetSize += entities.get(i).length + getPaddingSize(entities, i);
+          }
+          headerBuffer.clear();
+          PacketHeader.writePacketHeader(headerBuffer, packetType, packetSize);
+          outputStream.write(headerBuffer.array());
+          for (int i = 0; i < entities.size(); i++) {
+            outputStream.write(entities.get(i));
+            outputStream.write(PADDING, 0, getPaddingSize(entities, i));
+          }
+          outputStream.flush();
+        });
+  }
+
+  /**
+   * Write a packet with a single entity to the server.
+   *
+   * @param packetType Packet type.
+   * @param entity Serialized entity.
+   */
+  public void WritePacket(final PacketType packetType, final byte[] entity) {
+    WritePacket(packetType, Arrays.asList(entity));
+  }
+
+  /**
+   * Sends a request packet without payload and reads the response. The whole exchange holds the
+   * connection, so concurrent requests and writes cannot interleave with it.
+   *
+   * @param packetType Request and response packet type.
+   * @param timeoutInMilliseconds Read timeout in milliseconds.
+   * @return Response payload.
+   */
+  public ByteBuffer request(final PacketType packetType, final int timeoutInMilliseconds) {
+    return exchange(
+        timeoutInMilliseconds,
+        client -> {
+          client.WritePacket(packetType, Collections.emptyList());
+          return client.readPacket(packetType);
+        });
+  }
+
+  /**
+   * Runs several writes and reads as one exchange holding the connection. Requests can be
+   * pipelined by writing them all before reading the responses.
+   *
+   * @param timeoutInMilliseconds Read timeout in milliseconds.
+   * @param exchange Exchange using this client.
+   * @param <T> Result type.
+   * @return Exchange result.
+   */
+  public synchronized <T> T exchange(
+      final int timeoutInMilliseconds, final Function<SocketClient, T> exchange) {
+    return ExceptionUtils.propagate(
+        () -> {
+          final int previousTimeout = socket.getSoTimeout();
+          socket.setSoTimeout(timeoutInMilliseconds);
+          try {
+            return exchange.apply(this);
+          } finally {
+            socket.setSoTimeout(previousTimeout);
+          }
+        });
+  }
+
+  /**
+   * Reads a response packet.
+   *
+   * @param packetType Expected packet type.
+   * @return Packet payload.
+   */
+  public synchronized ByteBuffer readPacket(final PacketType packetType) {
+    return ExceptionUtils.propagate(
+        () -> {
+          final PacketHeader header = new PacketHeader(readFully(PacketHeader.SIZE));
+          if (header.getPacketType() != packetType) {
+            throw new IllegalStateException(
+                "Expected a " + packetType + " response but got " + header.getPacketType());
+          }
+          return readFully(header.getPacketSize() - PacketHeader.SIZE);
+        });
+  }
+
+  private ByteBuffer readFully(final int size) throws IOException {
+    final byte[] buffer = new byte[size];
+    int index = 0;
+    while (index < size) {
+      final int readSize = socket.getInputStream().read(buffer, index, size - index);
+      if (readSize == -1) {
+        throw new EOFException("Connection closed by the server.");
+      }
+      index += readSize;
+    }
+    return ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static int getPaddingSize(final List<byte[]> entities, final int index) {
+    return Packet.getPaddingSize(entities.get(index).length, index == entities.size() - 1);
+  }
+
+  private void writeDirect(final ByteBuffer byteBuffer) {
+    ExceptionUtils.propagateVoid(
+        () -> {
+          byteBuffer.rewind();
+          while (byteBuffer.hasRemaining()) {
+            final int length = Math.min(byteBuffer.remaining(), transferBuffer.length);
+            byteBuffer.get(transferBuffer, 0, length);
+            outputStream.write(transferBuffer, 0, length);
+          }
+        });
+  }
+
+  /**
+   * Checks if the connection is still usable. A peer that went away is only noticed on the next
+   * write.
+   *
+   * @return True if the socket is open.
+   */
+  public boolean isOpen() {
+    return socket.isConnected()
+        && !socket.isClosed()
+        && !socket.isInputShutdown()
+        && !socket.isOutputShutdown();
+  }
+
   public void close() {
       ExceptionUtils.propagateVoid(
               () -> {
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.net.ssl.SSLEngine;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/** Drives many non-blocking node connections from a single selector thread. */
+public class SocketSelector implements AutoCloseable {
+  /* Selector. */
+  private final Selector selector;
+  /* Work to run on the selector thread. */
+  private final Queue<Runnable> pendingTasks;
+  /* Selector thread. */
+  private final Thread selectorThread;
+  private final Logger logger;
+  private volatile boolean running;
+
+  /** Constructor. */
+  private SocketSelector() {
+    this.selector = ExceptionUtils.propagate(Selector::open);
+    this.pendingTasks = new ConcurrentLinkedQueue<>();
+    this.logger = LogManager.getLogger("network");
+    this.running = true;
+    this.selectorThread = new Thread(this::run, "socket-selector");
+    this.selectorThread.setDaemon(true);
+    this.selectorThread.start();
+  }
+
+  /**
+   * Creates a socket selector and starts its thread.
+   *
+   * @return Socket selector.
+   */
+  public static SocketSelector create() {
+    return new SocketSelector();
+  }
+
+  /**
+   * Opens a connection to a catapult node.
+   *
+   * @param nodeContext Catapult node context.
+   * @param handler Handler for the packets received.
+   * @return Future completed once the TLS handshake is done.
+   */
+  public CompletableFuture<NioSocketClient> connect(
+      final CatapultNodeContext nodeContext, final PacketHandler handler) {
+    return connect(
+        nodeContext.getHostName(),
+        nodeContext.getServerPort(),
+        nodeContext.createSSLEngine(),
+        handler);
+  }
+
+  /**
+   * Opens a connection to a server.
+   *
+   * @param hostName Host name.
+   * @param port Port.
+   * @param engine Client TLS engine.
+   * @param handler Handler for the packets received.
+   * @return Future completed once the TLS handshake is done.
+   */
+  public CompletableFuture<NioSocketClient> connect(
+      final String hostName, final int port, final SSLEngine engine, final PacketHandler handler) {
+    final SocketChannel channel =
+        ExceptionUtils.propagate(
+            () -> {
+              final SocketChannel socketChannel = SocketChannel.open();
+              socketChannel.configureBlocking(false);
+              socketChannel.connect(new InetSocketAddress(hostName, port));
+              return socketChannel;
+            });
+    final NioSocketClient client = new NioSocketClient(channel, engine, handler, this);
+    execute(
+        () -> {
+          try {
+            client.register(selector);
+          } catch (final Exception e) {
+            client.onError(e);
+          }
+        });
+    return client.getConnectedFuture();
+  }
+
+  /**
+   * Runs a task on the selector thread.
+   *
+   * @param task Task to run.
+   */
+  void execute(final Runnable task) {
+    pendingTasks.add(task);
+    selector.wakeup();
+  }
+
+  /** Closes all the connections and stops the selector thread. */
+  @Override
+  public void close() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    selector.wakeup();
+    ExceptionUtils.propagateVoid(() -> selectorThread.join(TimeUnit.SECONDS.toMillis(5)));
+    for (final SelectionKey key : selector.keys()) {
+      ((NioSocketClient) key.attachment()).closeChannel();
+    }
+    ExceptionUtils.propagateVoid(selector::close);
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        selector.select();
+      } catch (final Exception e) {
+        logger.error("Selector failed: " + e.getMessage());
+        return;
+      }
+      Runnable task;
+      while ((task = pendingTasks.poll()) != null) {
+        task.run();
+      }
+      final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+      while (iterator.hasNext()) {
+        final SelectionKey key = iterator.next();
+        iterator.remove();
+        final NioSocketClient client = (NioSocketClient) key.attachment();
+        try {
+          if (key.isValid() && key.isConnectable()) {
+            client.onConnectable();
+          }
+          if (key.isValid() && key.isReadable()) {
+            client.onReadable();
+          }
+          if (key.isValid() && key.isWritable()) {
+            client.onWritable();
+          }
+        } catch (final Exception e) {
+          logger.error("Connection failed: " + e.getMessage());
+          client.onError(e);
+        }
+      }
+    }
+  }
+}
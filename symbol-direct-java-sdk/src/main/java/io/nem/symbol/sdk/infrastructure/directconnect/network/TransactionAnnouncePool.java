@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.sdk.infrastructure.directconnect.network;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Announces transactions over a pool of authenticated connections to the same node. Each
+ * connection has its own bounded queue and writer thread, which coalesces queued entities of the
+ * same packet type into a single packet. A connection that fails to write is closed and left out
+ * of the rotation until its writer reconnects through the node {@link NodeConnectionManager}.
+ */
+public class TransactionAnnouncePool implements AutoCloseable {
+  /* Default number of connections to the node. */
+  public static final int DEFAULT_CONNECTION_COUNT = 4;
+  /* Default capacity of each connection queue. */
+  public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+  /* Default max number of entities in a single packet. */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  /* Longest wait for queue space before checking if the pool has been closed. */
+  private static final long OFFER_WAIT_IN_MILLISECONDS = 100;
+  /* Longest wait for a request before a disconnected writer tries to reconnect. */
+  private static final long RECONNECT_INTERVAL_IN_MILLISECONDS = 500;
+
+  /* Opens the connections and tracks the node availability. */
+  private final NodeConnectionManager connectionManager;
+  /* Connections to the node. */
+  private final List<AnnounceChannel> channels;
+  /* Writer threads. */
+  private final ExecutorService writers;
+  /* Max number of entities in a single packet. */
+  private final int maxBatchSize;
+  /* Pool is accepting new requests. */
+  private final AtomicBoolean running;
+  private final Logger logger;
+
+  /**
+   * Constructor - Use the default pool settings.
+   *
+   * @param nodeContext Catapult node context.
+   */
+  public TransactionAnnouncePool(final CatapultNodeContext nodeContext) {
+    this(nodeContext, DEFAULT_CONNECTION_COUNT, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeContext Catapult node context.
+   * @param connectionCount Number of connections to open to the node.
+   * @param queueCapacity Capacity of each connection queue.
+   * @param maxBatchSize Max number of entities in a single packet.
+   */
+  public TransactionAnnouncePool(
+      final CatapultNodeContext nodeContext,
+      final int connectionCount,
+      final int queueCapacity,
+      final int maxBatchSize) {
+    if (connectionCount < 1 || queueCapacity < 1 || maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Connection count, queue capacity and batch size must be greater than zero.");
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.logger = LogManager.getLogger("announce");
+    this.running = new AtomicBoolean(true);
+    this.connectionManager = nodeContext.getConnectionManager();
+    final List<AnnounceChannel> openChannels = new ArrayList<>(connectionCount);
+    try {
+      for (int i = 0; i < connectionCount; i++) {
+        openChannels.add(
+            new AnnounceChannel(
+                connectionManager.openSocket(), new ArrayBlockingQueue<>(queueCapacity)));
+      }
+    } catch (final RuntimeException ex) {
+      openChannels.forEach(AnnounceChannel::disconnect);
+      throw ex;
+    }
+    this.channels = Collections.unmodifiableList(openChannels);
+    this.writers = Executors.newFixedThreadPool(connectionCount);
+    channels.forEach(channel -> writers.execute(() -> writerLoop(channel)));
+  }
+
+  /**
+   * Announce a signed transaction to the blockchain.
+   *
+   * @param transaction Signed transaction.
+   * @return Future completed once the transaction has been written to the node.
+   */
+  public CompletableFuture<Void> announce(final SignedTransaction transaction) {
+    return submit(
+        PacketType.PUSH_TRANSACTIONS,
+        ExceptionUtils.propagate(() -> Hex.decodeHex(transaction.getPayload())));
+  }
+
+  /**
+   * Announce an aggregate bonded transaction to the blockchain.
+   *
+   * @param transaction Aggregate bonded transaction.
+   * @return Future completed once the transaction has been written to the node.
+   */
+  public CompletableFuture<Void> announceAggregateBonded(final SignedTransaction transaction) {
+    return submit(
+        PacketType.PUSH_PARTIAL_TRANSACTIONS,
+        ExceptionUtils.propagate(() -> Hex.decodeHex(transaction.getPayload())));
+  }
+
+  /**
+   * Send a cosignature signed transaction of an already announced transaction.
+   *
+   * @param cosignatureSignedTransaction Cosignature signed transaction.
+   * @return Future completed once the cosignature has been written to the node.
+   */
+  public CompletableFuture<Void> announceAggregateBondedCosignature(
+      final CosignatureSignedTransaction cosignatureSignedTransaction) {
+    return submit(
+        PacketType.PUSH_DETACTED_COSIGNATURES,
+        TransactionConnection.toDetachedCosignatureBytes(cosignatureSignedTransaction));
+  }
+
+  /**
+   * Gets the number of requests waiting on each connection.
+   *
+   * @return Queue depth per connection.
+   */
+  public List<Integer> getQueueDepths() {
+    return channels.stream().map(channel -> channel.queue.size()).collect(Collectors.toList());
+  }
+
+  /**
+   * Gets the number of connections currently open.
+   *
+   * @return Number of open connections.
+   */
+  public int getOpenConnectionCount() {
+    return (int) channels.stream().filter(AnnounceChannel::isConnected).count();
+  }
+
+  /**
+   * Gets the number of connections in the pool.
+   *
+   * @return Number of connections.
+   */
+  public int getConnectionCount() {
+    return channels.size();
+  }
+
+  /** Stops the writers, fails the pending requests and closes the connections. */
+  @Override
+  public void close() {
+    if (!running.getAndSet(false)) {
+      return;
+    }
+    writers.shutdownNow();
+    for (final AnnounceChannel channel : channels) {
+      final List<AnnounceRequest> pending = new ArrayList<>();
+      channel.queue.drainTo(pending);
+      pending.forEach(request -> request.future.completeExceptionally(createClosedException()));
+      channel.disconnect();
+    }
+  }
+
+  /**
+   * Queues an entity on the least busy open connection. Blocks while all the queues are full,
+   * until the pool is closed.
+   *
+   * @param packetType Packet type.
+   * @param entityBytes Entity bytes.
+   * @return Future completed once the entity has been written to the node.
+   */
+  private CompletableFuture<Void> submit(final PacketType packetType, final byte[] entityBytes) {
+    if (!running.get()) {
+      throw createClosedException();
+    }
+    final AnnounceRequest request = new AnnounceRequest(packetType, entityBytes);
+    final BlockingQueue<AnnounceRequest> queue = selectChannel().queue;
+    while (!ExceptionUtils.propagate(
+        () -> queue.offer(request, OFFER_WAIT_IN_MILLISECONDS, TimeUnit.MILLISECONDS))) {
+      if (!running.get()) {
+        throw createClosedException();
+      }
+    }
+    /* The pool may have been closed and drained after the check above. */
+    if (!running.get() && queue.remove(request)) {
+      request.future.completeExceptionally(createClosedException());
+    }
+    return request.future;
+  }
+
+  /**
+   * Selects the least busy open connection. A closed connection fails fast and keeps its queue
+   * empty, so it is only used when no connection is open.
+   *
+   * @return Connection to queue on.
+   */
+  private AnnounceChannel selectChannel() {
+    AnnounceChannel target = null;
+    for (final AnnounceChannel channel : channels) {
+      if (channel.isConnected()
+          && (target == null || channel.queue.size() < target.queue.size())) {
+        target = channel;
+      }
+    }
+    if (target != null) {
+      return target;
+    }
+    target = channels.get(0);
+    for (final AnnounceChannel channel : channels) {
+      if (channel.queue.size() < target.queue.size()) {
+        target = channel;
+      }
+    }
+    return target;
+  }
+
+  private static IllegalStateException createClosedException() {
+    return new IllegalStateException("Announce pool has been closed.");
+  }
+
+  private void writerLoop(final AnnounceChannel channel) {
+    final List<AnnounceRequest> batch = new ArrayList<>(maxBatchSize);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final AnnounceRequest request;
+        if (channel.isConnected() || tryConnect(channel)) {
+          request = channel.queue.take();
+        } else {
+          request =
+              channel.queue.poll(RECONNECT_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+          if (request == null) {
+            continue;
+          }
+        }
+        batch.add(request);
+        channel.queue.drainTo(batch, maxBatchSize - 1);
+        writeBatch(channel, batch);
+        batch.clear();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      /* A reconnect may have raced with close. */
+      if (!running.get()) {
+        channel.disconnect();
+      }
+    }
+  }
+
+  /**
+   * Tries to reconnect a closed connection. Fails fast while the node circuit is open.
+   *
+   * @param channel Closed connection.
+   * @return True if the connection is open.
+   */
+  private boolean tryConnect(final AnnounceChannel channel) {
+    try {
+      channel.socket = connectionManager.openSocket();
+      return true;
+    } catch (final RuntimeException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Writes a batch of requests. Consecutive requests of the same packet type share one packet,
+   * framed by {@link SocketClient#WritePacket(PacketType, List)} like single announces.
+   *
+   * @param channel Connection to write to.
+   * @param batch Requests to write.
+   */
+  private void writeBatch(final AnnounceChannel channel, final List<AnnounceRequest> batch) {
+    int start = 0;
+    while (start < batch.size()) {
+      final PacketType packetType = batch.get(start).packetType;
+      int end = start + 1;
+      while (end < batch.size() && batch.get(end).packetType == packetType) {
+        end++;
+      }
+      final List<AnnounceRequest> run = batch.subList(start, end);
+      try {
+        if (!channel.isConnected()) {
+          channel.socket = connectionManager.openSocket();
+        }
+        final List<byte[]> entities =
+            run.stream().map(request -> request.entityBytes).collect(Collectors.toList());
+        channel.socket.getSocketClient().WritePacket(packetType, entities);
+        run.forEach(request -> request.future.complete(null));
+      } catch (final Exception e) {
+        logger.error("Failed to announce " + run.size() + " entities: " + e.getMessage());
+        channel.disconnect();
+        run.forEach(request -> request.future.completeExceptionally(e));
+      }
+      start = end;
+    }
+  }
+
+  /** Connection and its pending requests. */
+  private static class AnnounceChannel {
+    /* Null while disconnected. */
+    volatile AuthenticatedSocket socket;
+    final BlockingQueue<AnnounceRequest> queue;
+
+    AnnounceChannel(
+        final AuthenticatedSocket socket, final BlockingQueue<AnnounceRequest> queue) {
+      this.socket = socket;
+      this.queue = queue;
+    }
+
+    boolean isConnected() {
+      return socket != null;
+    }
+
+    void disconnect() {
+      final AuthenticatedSocket current = socket;
+      socket = null;
+      if (current != null) {
+        current.close();
+      }
+    }
+  }
+
+  /** Entity waiting to be written. */
+  private static class AnnounceRequest {
+    final PacketType packetType;
+    final byte[] entityBytes;
+    final CompletableFuture<Void> future;
+
+    AnnounceRequest(final PacketType packetType, final byte[] entityBytes) {
+      this.packetType = packetType;
+      this.entityBytes = entityBytes;
+      this.future = new CompletableFuture<>();
+    }
+  }
+}
@@ -27,7 +27,6 @@ import io.nem.symbol.catapult.builders.SignatureDto;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.ExceptionUtils;
-import io.nem.symbol.sdk.infrastructure.directconnect.packet.Packet;
 import io.nem.symbol.sdk.infrastructure.directconnect.packet.PacketType;
 import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
@@ -40,8 +39,6 @@ public class TransactionConnection {
   /* Authenticated socket. */
   final AuthenticatedSocket authenticatedSocket;
 
-  private static Object lock = new Object();
-
   /**
    * Constructor.
    *
@@ -82,6 +79,19 @@ public class TransactionConnection {
    */
   public void announceAggregateBondedCosignature(
       final CosignatureSignedTransaction cosignatureSignedTransaction) {
+    announceTransaction(
+        PacketType.PUSH_DETACTED_COSIGNATURES,
+        toDetachedCosignatureBytes(cosignatureSignedTransaction));
+  }
+
+  /**
+   * Serializes a cosignature signed transaction to a detached cosignature.
+   *
+   * @param cosignatureSignedTransaction Cosignature signed transaction.
+   * @return Detached cosignature bytes.
+   */
+  static byte[] toDetachedCosignatureBytes(
+      final CosignatureSignedTransaction cosignatureSignedTransaction) {
     final byte[] signerBytes =
         PublicKey.fromHexString(cosignatureSignedTransaction.getSignerPublicKey()).getBytes();
     final ByteBuffer signerBuffer = ByteBuffer.wrap(signerBytes);
@@ -96,8 +106,7 @@ public class TransactionConnection {
             new KeyDto(signerBuffer),
             new SignatureDto(signatureBuffer),
             new Hash256Dto(parentHashBuffer));
-    announceTransaction(
-        PacketType.PUSH_DETACTED_COSIGNATURES, detachedCosignatureBuilder.serialize());
+    return detachedCosignatureBuilder.serialize();
   }
 
   /**
@@ -107,12 +116,7 @@ public class TransactionConnection {
    * @param transactionBytes Transaction bytes.
    */
   private void announceTransaction(final PacketType packetType, final byte[] transactionBytes) {
-    synchronized (lock) {
-      ExceptionUtils.propagateVoid(
-          () -> {
-            final ByteBuffer ph = Packet.CreatePacketByteBuffer(packetType, transactionBytes);
-            authenticatedSocket.getSocketClient().Write(ph);
-          });
-    }
+    ExceptionUtils.propagateVoid(
+        () -> authenticatedSocket.getSocketClient().WritePacket(packetType, transactionBytes));
   }
 }
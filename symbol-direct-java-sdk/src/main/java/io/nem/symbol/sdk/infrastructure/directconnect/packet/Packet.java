@@ -25,6 +25,12 @@ import java.nio.ByteOrder;
 
 /** Packet. */
 public class Packet {
+  /**
+   * Alignment (in bytes) of each entity in a multi entity packet. Every entity but the last is
+   * padded, which is what the server entity extractor expects.
+   */
+  public static final int ENTITY_ALIGNMENT = 8;
+
   /* Packet header. */
   final PacketHeader packetHeader;
   /* Packet data. */
@@ -58,6 +64,28 @@ public class Packet {
     return buffer;
   }
 
+  /**
+   * Gets the number of padding bytes needed after an entity.
+   *
+   * @param size Entity size.
+   * @return Padding size.
+   */
+  public static int getPaddingSize(final int size) {
+    final int remainder = size % ENTITY_ALIGNMENT;
+    return remainder == 0 ? 0 : ENTITY_ALIGNMENT - remainder;
+  }
+
+  /**
+   * Gets the number of padding bytes written after an entity of a multi entity packet.
+   *
+   * @param size Entity size.
+   * @param last True if the entity is the last one of the packet.
+   * @return Padding size, zero for the last entity.
+   */
+  public static int getPaddingSize(final int size, final boolean last) {
+    return last ? 0 : getPaddingSize(size);
+  }
+
   /**
    * Gets the packet header.
    *
@@ -51,13 +51,25 @@ public class PacketHeader {
    */
   public static ByteBuffer createPacketHeader(final PacketType packetType, final int size) {
     final ByteBuffer header = ByteBuffer.allocate(PacketHeader.SIZE);
-    header.order(ByteOrder.LITTLE_ENDIAN);
-    header.putInt(size);
-    header.putInt(packetType.toInteger());
+    writePacketHeader(header, packetType, size);
     header.rewind();
     return header;
   }
 
+  /**
+   * Writes a packet header at the current position of an existing buffer.
+   *
+   * @param target Buffer to write to.
+   * @param packetType Packet type.
+   * @param size Packet size.
+   */
+  public static void writePacketHeader(
+      final ByteBuffer target, final PacketType packetType, final int size) {
+    target.order(ByteOrder.LITTLE_ENDIAN);
+    target.putInt(size);
+    target.putInt(packetType.toInteger());
+  }
+
   /**
    * Gets the packet size.
    *
@@ -28,6 +28,10 @@ public enum PacketType {
   CLIENT_CHALLENGE(2),
   /** Blocks have been pushed by a peer. */
   PUSH_BLOCK(3),
+  /** Chain statistics have been requested by a peer. */
+  CHAIN_STATISTICS(5),
+  /** Blocks have been requested by a peer. */
+  PULL_BLOCKS(8),
   /** Transactions have been pushed by an api-node or a peer. */
   PUSH_TRANSACTIONS(9),
   /** Partial aggregate transactions have been pushed by an api-node. */
@@ -36,6 +40,8 @@ public enum PacketType {
   PUSH_DETACTED_COSIGNATURES(257),
   /** Node information has been requested by a peer. */
   NODE_DISCOVERY_PULL_PING(273),
+  /** Node peers have been requested by a peer. */
+  NODE_DISCOVERY_PULL_PEERS(275),
   /** Node time information has been requested by a peer. */
   TIME_SYNC_NODE_TIME(288);
 
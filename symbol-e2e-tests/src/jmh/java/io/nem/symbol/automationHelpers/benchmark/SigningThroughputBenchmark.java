@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.automationHelpers.benchmark;
+
+import io.nem.symbol.automationHelpers.helper.sdk.TransactionSigningPipeline;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the signatures per second of the spammer transactions. The sign benchmarks sign on one
+ * thread and on one thread per core, so the per core rate is the score divided by the thread
+ * count. The pipeline benchmark runs {@link TransactionSigningPipeline} with a given number of
+ * workers and takes every signed transaction, as the spammer does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SigningThroughputBenchmark {
+  /* Transactions signed by each pipeline invocation. */
+  private static final int PIPELINE_TRANSACTION_COUNT = 10000;
+  /* Capacity of the pipeline ready queue. */
+  private static final int PIPELINE_CAPACITY = 1000;
+  /* Number of distinct transactions signed. */
+  private static final int TRANSACTION_COUNT = 1024;
+  private static final NetworkType NETWORK_TYPE = NetworkType.MIJIN_TEST;
+  private static final String GENERATION_HASH =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private Account signer;
+  private List<Transaction> transactions;
+
+  /** Builds the transfers to sign. */
+  @Setup
+  public void setUp() {
+    signer = Account.generateNewAccount(NETWORK_TYPE);
+    final Account recipient = Account.generateNewAccount(NETWORK_TYPE);
+    transactions = new ArrayList<>(TRANSACTION_COUNT);
+    for (int i = 0; i < TRANSACTION_COUNT; i++) {
+      transactions.add(
+          TransferTransactionFactory.create(
+                  NETWORK_TYPE,
+                  recipient.getAddress(),
+                  Collections.emptyList(),
+                  PlainMessage.create(String.format("spammer %010d", i)))
+              .deadline(Deadline.create(2, ChronoUnit.HOURS))
+              .maxFee(BigInteger.valueOf(1000000))
+              .build());
+    }
+  }
+
+  /**
+   * Signs on a single thread.
+   *
+   * @return Signed transaction.
+   */
+  @Benchmark
+  @Threads(1)
+  public SignedTransaction signSingleThread() {
+    return sign();
+  }
+
+  /**
+   * Signs on one thread per core.
+   *
+   * @return Signed transaction.
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public SignedTransaction signAllCores() {
+    return sign();
+  }
+
+  /**
+   * Signs through the pipeline and takes every signed transaction.
+   *
+   * @param pipelineSettings Pipeline settings.
+   * @param blackhole Blackhole.
+   */
+  @Benchmark
+  @OperationsPerInvocation(PIPELINE_TRANSACTION_COUNT)
+  public void pipeline(final PipelineSettings pipelineSettings, final Blackhole blackhole) {
+    try (final TransactionSigningPipeline signingPipeline =
+        new TransactionSigningPipeline(
+            PIPELINE_TRANSACTION_COUNT,
+            sequence -> transactions.get(sequence % TRANSACTION_COUNT),
+            sequence -> signer,
+            GENERATION_HASH,
+            pipelineSettings.workerCount,
+            PIPELINE_CAPACITY)) {
+      SignedTransaction signedTransaction;
+      while ((signedTransaction = signingPipeline.take()) != null) {
+        blackhole.consume(signedTransaction);
+      }
+    }
+  }
+
+  private SignedTransaction sign() {
+    final int index = (int) (Thread.currentThread().getId() % TRANSACTION_COUNT);
+    return signer.sign(transactions.get(index), GENERATION_HASH);
+  }
+
+  /** Settings of the pipeline benchmark. */
+  @State(Scope.Benchmark)
+  public static class PipelineSettings {
+    @Param({"1", "2", "4", "8"})
+    private int workerCount;
+  }
+}
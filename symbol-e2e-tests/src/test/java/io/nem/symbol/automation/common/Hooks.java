@@ -81,5 +81,6 @@ public class Hooks {
     if (listener != null) {
       listener.close();
     }
+    testContext.closeConfirmationTracker();
   }
 }
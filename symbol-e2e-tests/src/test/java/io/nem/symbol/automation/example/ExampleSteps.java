@@ -494,7 +494,7 @@ public class ExampleSteps {
             throws InterruptedException, ExecutionException {
         Transaction transaction =
                 new TransactionHelper(testContext)
-                        .getConfirmedTransaction(testContext.getSignedTransaction().getHash());
+                        .getConfirmedTransaction(testContext.getSignedTransaction());
 
         final TransferTransaction submitTransferTransaction =
                 (TransferTransaction) testContext.getTransactions().get(0);
@@ -130,7 +130,7 @@ public class SendTransaction extends BaseTest {
     final TransactionState transactionState = TransactionState.valueOf(state.toUpperCase());
     final boolean found =
         new TransactionHelper(getTestContext())
-            .waitForTransactionStatus(signedTransaction.getHash(), transactionState);
+            .waitForTransactionStatus(signedTransaction, transactionState);
     assertTrue(
         "Transaction was not found in " + state + ": " + CommonHelper.toString(signedTransaction),
         found);
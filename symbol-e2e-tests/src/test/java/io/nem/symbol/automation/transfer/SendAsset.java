@@ -282,7 +282,7 @@ public class SendAsset extends BaseTest {
     final SignedTransaction signedTransaction = getTestContext().getSignedTransaction();
     TransferTransaction transferTransaction =
         new TransactionHelper(getTestContext())
-            .getConfirmedTransaction(signedTransaction.getHash());
+            .getConfirmedTransaction(signedTransaction);
     final MosaicInfo mosaicInfo = getTestContext().getScenarioContext().getContext(MOSAIC_INFO_KEY);
     assertEquals(
         mosaicInfo.getMosaicId().getIdAsLong(),
@@ -34,7 +34,9 @@ import io.nem.symbol.sdk.infrastructure.directconnect.network.CatapultNodeContex
 import io.nem.symbol.sdk.infrastructure.vertx.RepositoryFactoryVertxImpl;
 import io.nem.symbol.sdk.model.account.Account;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** Repository factory */
@@ -73,19 +75,39 @@ public class RepositoryFactoryImpl {
   private RepositoryFactory createDirectRepositoryFactory() {
     final DataAccessContext dataAccessContext =
         new DataAccessContext(
-            configFileReader.getMongodbHost(), configFileReader.getMongodbPort(), 0 /* timeout */);
-    final CatapultNodeContext apiNodeContext =
-        new CatapultNodeContext(
-            configFileReader.getAutomationKeyFile(),
-            configFileReader.getAutomationCertificateFile(),
-            configFileReader.getApiServerCertificateFile(),
-            configFileReader.getApiHost(),
-            configFileReader.getApiPort());
+            configFileReader.getMongodbHost(),
+            configFileReader.getMongodbPort(),
+            0 /* timeout */,
+            configFileReader.getDatabaseDriver(),
+            configFileReader.getLookupCacheSize(),
+            configFileReader.getLookupCacheTtlInSeconds());
+    final List<CatapultNodeContext> apiNodeContexts = new ArrayList<>();
+    apiNodeContexts.add(
+        createApiNodeContext(configFileReader.getApiHost(), configFileReader.getApiPort()));
+    for (final String apiNode : configFileReader.getAdditionalApiNodes()) {
+      final String[] hostAndPort = apiNode.split(":");
+      apiNodeContexts.add(createApiNodeContext(hostAndPort[0], Integer.parseInt(hostAndPort[1])));
+    }
     final BrokerNodeContext brokerNodeContext = new BrokerNodeContext(configFileReader.getBrokerHost(), configFileReader.getBrokerPort());
-    final CatapultContext catapultContext = new CatapultContext(apiNodeContext, dataAccessContext, brokerNodeContext, configFileReader.getSymbolConfigPath());
+    final CatapultContext catapultContext =
+        new CatapultContext(
+            apiNodeContexts,
+            configFileReader.getAnnounceFanOut(),
+            dataAccessContext,
+            brokerNodeContext,
+            configFileReader.getSymbolConfigPath());
     return new DirectConnectRepositoryFactoryImpl(catapultContext);
   }
 
+  private CatapultNodeContext createApiNodeContext(final String hostName, final int port) {
+    return new CatapultNodeContext(
+        configFileReader.getAutomationKeyFile(),
+        configFileReader.getAutomationCertificateFile(),
+        configFileReader.getApiServerCertificateFile(),
+        hostName,
+        port);
+  }
+
   private RepositoryFactory createVertxRepositoryFactory() {
     final String nodeUrl = configFileReader.getRestGatewayUrl();
     return new RepositoryFactoryVertxImpl(nodeUrl);
@@ -23,7 +23,9 @@ package io.nem.symbol.automationHelpers.common;
 import io.nem.symbol.automationHelpers.config.ConfigFileReader;
 import io.nem.symbol.automationHelpers.helper.sdk.TransactionHelper;
 import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.api.Listener;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.directconnect.listener.TransactionConfirmationTracker;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
@@ -49,6 +51,8 @@ public class TestContext {
   private final SymbolConfig symbolConfig;
   private SignedTransaction signedTransaction;
   private Log logger;
+  private Listener confirmationListener;
+  private TransactionConfirmationTracker confirmationTracker;
 
   /** Constructor. */
   public TestContext() {
@@ -247,15 +251,23 @@ public class TestContext {
     final TransactionHelper transactionHelper = new TransactionHelper(this);
     final List<Transaction> userTransactions =
         userFeeMap.getOrDefault(publicAccount.getPublicKey().toHex(), new LinkedList<>());
+    final Set<String> confirmedHashes =
+        transactionHelper
+            .getTransactionStatuses(
+                userTransactions.stream()
+                    .map(transaction -> transaction.getTransactionInfo().get().getHash().get())
+                    .collect(Collectors.toList()))
+            .stream()
+            .filter(status -> status.getGroup() == TransactionState.CONFIRMED)
+            .map(status -> status.getHash().toUpperCase())
+            .collect(Collectors.toSet());
     final Long fee =
         userTransactions
             .parallelStream()
             .map(
                 transaction -> {
-                  final TransactionStatus status =
-                      transactionHelper.getTransactionStatus(
-                          transaction.getTransactionInfo().get().getHash().get());
-                  if (status.getGroup() != TransactionState.CONFIRMED) {
+                  if (!confirmedHashes.contains(
+                      transaction.getTransactionInfo().get().getHash().get().toUpperCase())) {
                     return 0;
                   }
                   final BlockInfo blockInfo =
@@ -279,4 +291,30 @@ public class TestContext {
   public void clearUserFee(final PublicAccount publicAccount) {
     userFeeMap.remove(publicAccount.getPublicKey().toHex());
   }
+
+  /**
+   * Gets the transaction confirmation tracker. The tracker listener is opened on first use.
+   *
+   * @return Transaction confirmation tracker.
+   */
+  public synchronized TransactionConfirmationTracker getConfirmationTracker() {
+    if (null == confirmationTracker) {
+      confirmationListener = repositoryFactory.createListener();
+      ExceptionUtils.propagateVoid(() -> confirmationListener.open().get());
+      confirmationTracker =
+          new TransactionConfirmationTracker(
+              confirmationListener, repositoryFactory.createTransactionStatusRepository());
+    }
+    return confirmationTracker;
+  }
+
+  /** Closes the transaction confirmation tracker and its listener. */
+  public synchronized void closeConfirmationTracker() {
+    if (null != confirmationTracker) {
+      confirmationTracker.close();
+      confirmationListener.close();
+      confirmationTracker = null;
+      confirmationListener = null;
+    }
+  }
 }
@@ -21,12 +21,16 @@
 package io.nem.symbol.automationHelpers.config;
 
 import io.nem.symbol.automationHelpers.common.RepositoryFactoryType;
+import io.nem.symbol.sdk.infrastructure.directconnect.dataaccess.common.DatabaseDriver;
 import io.nem.symbol.sdk.model.network.NetworkType;
 
 import java.io.*;
 import java.math.BigInteger;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 /** Config reader for the automation framework. */
@@ -75,6 +79,27 @@ public class ConfigFileReader {
     return Integer.parseInt(getPropertyValue("apiPort"));
   }
 
+  /**
+   * Gets the other api nodes announces are spread over, as host:port pairs separated by commas.
+   *
+   * @return Additional api nodes, empty when not set.
+   */
+  public List<String> getAdditionalApiNodes() {
+    final String apiNodes = properties.getProperty("additionalApiNodes", "").trim();
+    return apiNodes.isEmpty()
+        ? Collections.emptyList()
+        : Arrays.asList(apiNodes.split("\\s*,\\s*"));
+  }
+
+  /**
+   * Gets the number of api nodes each announce is sent to.
+   *
+   * @return Announce fan out, one when not set.
+   */
+  public int getAnnounceFanOut() {
+    return Integer.parseInt(properties.getProperty("announceFanOut", "1"));
+  }
+
   /**
    * Gets the broker host address.
    *
@@ -229,6 +254,34 @@ public class ConfigFileReader {
     return RepositoryFactoryType.valueOf(getPropertyValue("RepositoryFactoryType").toUpperCase());
   }
 
+  /**
+   * Gets the mongo database driver used by the direct connection.
+   *
+   * @return Database driver, sync when not set.
+   */
+  public DatabaseDriver getDatabaseDriver() {
+    return DatabaseDriver.valueOf(
+        properties.getProperty("databaseDriver", DatabaseDriver.SYNC.name()).toUpperCase());
+  }
+
+  /**
+   * Gets the maximum number of entries in each lookup cache of the direct connection.
+   *
+   * @return Lookup cache size, zero (disabled) when not set.
+   */
+  public int getLookupCacheSize() {
+    return Integer.parseInt(properties.getProperty("lookupCacheSize", "0"));
+  }
+
+  /**
+   * Gets the lookup cache time to live.
+   *
+   * @return Lookup cache time to live in seconds.
+   */
+  public int getLookupCacheTtlInSeconds() {
+    return Integer.parseInt(properties.getProperty("lookupCacheTtlInSeconds", "60"));
+  }
+
   /**
    * Gets symbol config path.
    *
@@ -22,6 +22,8 @@ package io.nem.symbol.automationHelpers.helper.sdk;
 
 import io.nem.symbol.automationHelpers.common.TestContext;
 import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.model.account.*;
 import io.nem.symbol.sdk.model.message.PlainMessage;
@@ -30,15 +32,16 @@ import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionGroup;
 import io.nem.symbol.sdk.model.transaction.TransactionState;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /** Account helper. */
 public class AccountHelper {
@@ -147,14 +150,29 @@ public class AccountHelper {
    */
   public List<AggregateTransaction> getAggregateBondedTransactions(
       final Address address) {
+    final int pageSize = 100;
     return ExceptionUtils.propagate(
-        () ->
-            testContext.getRepositoryFactory().createTransactionRepository()
-                .search(
-                    new TransactionSearchCriteria(TransactionGroup.PARTIAL).address(address))
-                .toFuture().get().getData().stream()
-                .map(transaction -> (AggregateTransaction) transaction)
-                .collect(Collectors.toList()));
+        () -> {
+          final TransactionRepository transactionRepository =
+              testContext.getRepositoryFactory().createTransactionRepository();
+          final List<AggregateTransaction> aggregateTransactions = new ArrayList<>();
+          int pageNumber = 1;
+          Page<Transaction> page;
+          do {
+            page =
+                transactionRepository
+                    .search(
+                        new TransactionSearchCriteria(TransactionGroup.PARTIAL)
+                            .address(address)
+                            .pageSize(pageSize)
+                            .pageNumber(pageNumber++))
+                    .toFuture()
+                    .get();
+            page.getData()
+                .forEach(transaction -> aggregateTransactions.add((AggregateTransaction) transaction));
+          } while (pageNumber <= page.getTotalPages());
+          return aggregateTransactions;
+        });
   }
 
   /**
@@ -179,7 +197,7 @@ public class AccountHelper {
       final PublicAccount publicAccount, final SignedTransaction signedTransaction) {
     try {
     new TransactionHelper(testContext)
-        .waitForTransactionStatus(signedTransaction.getHash(), TransactionState.PARTIAL);
+        .waitForTransactionStatus(signedTransaction, TransactionState.PARTIAL);
     final Supplier supplier =
         () -> new IllegalArgumentException(CommonHelper.toString(signedTransaction));
     return getAggregateBondedTransactions(publicAccount.getAddress()).stream()
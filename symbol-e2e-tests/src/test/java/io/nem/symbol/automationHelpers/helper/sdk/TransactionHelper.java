@@ -28,9 +28,9 @@ import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.transaction.*;
 
 import java.math.BigInteger;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -117,14 +117,32 @@ public class TransactionHelper {
   }
 
   /**
-   * Get the confirmed transaction by the hash.
+   * Get the confirmed transaction, waiting for the confirmation notification.
    *
-   * @param hash Transaction hash.
+   * @param signedTransaction Signed transaction.
    * @param <T> Transaction type.
    * @return Confirmed transaction.
    */
-  public <T extends Transaction> T getConfirmedTransaction(final String hash) {
-    return waitForStatusAndGetTransaction(hash, TransactionState.CONFIRMED);
+  public <T extends Transaction> T getConfirmedTransaction(
+      final SignedTransaction signedTransaction) {
+    return waitForStatusAndGetTransaction(signedTransaction, TransactionState.CONFIRMED);
+  }
+
+  /**
+   * Gets the transaction statuses for a list of hashes with one lookup.
+   *
+   * @param hashes Transaction hashes.
+   * @return Transaction statuses found.
+   */
+  public List<TransactionStatus> getTransactionStatuses(final List<String> hashes) {
+    return ExceptionUtils.propagate(
+        () ->
+            testContext
+                .getRepositoryFactory()
+                .createTransactionStatusRepository()
+                .getTransactionStatuses(hashes)
+                .toFuture()
+                .get());
   }
 
   /**
@@ -191,33 +209,30 @@ public class TransactionHelper {
   }
 
   /**
-   * Waits for a transaction to reach a specific state.
+   * Waits for a transaction to reach a specific state. Completes as soon as the listener
+   * notification for the signer is received.
    *
-   * @param hash Transaction hash.
+   * @param signedTransaction Signed transaction.
    * @param status Expected state.
    * @return True if transaction reaches the state.
    */
-  public boolean waitForTransactionStatus(final String hash, final TransactionState status) {
-    final LocalDateTime timeout =
-        LocalDateTime.now()
-            .plusSeconds(testContext.getConfigFileReader().getDatabaseQueryTimeoutInSeconds());
-    final int sleepTime = 3000;
-    TransactionStatus transactionStatus;
-
-    do {
-      transactionStatus = getTransactionStatusWithRetry(hash, 20);
-      if (transactionStatus.getGroup() == status) {
-        return true;
-      }
-      // if reach end state without match just exit.
-      if (isTransactionDone(transactionStatus.getGroup())) {
-        break;
-      }
-      ExceptionUtils.propagateVoid(() -> Thread.sleep(sleepTime));
-    } while (timeout.isAfter(LocalDateTime.now()));
+  public boolean waitForTransactionStatus(
+      final SignedTransaction signedTransaction, final TransactionState status) {
+    final TransactionStatus transactionStatus =
+        testContext
+            .getConfirmationTracker()
+            .waitForStatus(
+                signedTransaction.getHash(),
+                signedTransaction.getSigner().getAddress(),
+                status,
+                testContext.getConfigFileReader().getDatabaseQueryTimeoutInSeconds());
+    if (transactionStatus.getGroup() == status) {
+      return true;
+    }
     testContext
         .getLogger()
-        .LogError("Transaction " + hash + " not in the expected state: " + status);
+        .LogError(
+            "Transaction " + signedTransaction.getHash() + " not in the expected state: " + status);
     testContext.getLogger().LogError("Found tx state: " + CommonHelper.toString(transactionStatus));
     throw new IllegalArgumentException(
         "Transaction not in the expected state: " + CommonHelper.toString(transactionStatus));
@@ -226,14 +241,14 @@ public class TransactionHelper {
   /**
    * Waits for a transaction to reach a specific state and get the transaction.
    *
-   * @param hash Transaction hash.
+   * @param signedTransaction Signed transaction.
    * @param status Expected state.
    * @return Transaction if it reached the correct state.
    */
   private <T extends Transaction> T waitForStatusAndGetTransaction(
-      final String hash, final TransactionState status) {
-    waitForTransactionStatus(hash, status);
-    return getTransaction(TransactionGroup.valueOf(status.name()), hash);
+      final SignedTransaction signedTransaction, final TransactionState status) {
+    waitForTransactionStatus(signedTransaction, status);
+    return getTransaction(TransactionGroup.valueOf(status.name()), signedTransaction.getHash());
   }
 
   /**
@@ -246,7 +261,9 @@ public class TransactionHelper {
   public <T extends Transaction> T waitForTransactionToComplete(
       final SignedTransaction signedTransaction) {
     return waitForTransaction(
-        signedTransaction, (final String hash) -> getConfirmedTransaction(hash));
+        signedTransaction,
+        (final String hash) ->
+            waitForStatusAndGetTransaction(signedTransaction, TransactionState.CONFIRMED));
   }
 
   /**
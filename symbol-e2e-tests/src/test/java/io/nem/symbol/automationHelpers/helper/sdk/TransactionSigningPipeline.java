@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.automationHelpers.helper.sdk;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Builds and signs a sequence of transactions on a pool of worker threads. Signed transactions are
+ * placed in a bounded ready queue. Workers block while the queue is full, so signing runs only as
+ * far ahead of the consumer as the queue capacity allows. The signed transactions are not stored in
+ * the test context.
+ */
+public class TransactionSigningPipeline implements AutoCloseable {
+  private static final long POLL_WAIT_IN_MILLISECONDS = 100;
+  private static final long READY_WAIT_IN_MILLISECONDS = 10;
+  private final int transactionCount;
+  private final IntFunction<Transaction> transactionFactory;
+  private final IntFunction<Account> signerFactory;
+  private final String generationHash;
+  private final BlockingQueue<SignedTransaction> readyQueue;
+  private final ExecutorService workers;
+  private final AtomicInteger nextSequence = new AtomicInteger();
+  private final AtomicInteger signedCount = new AtomicInteger();
+  private final AtomicInteger takenCount = new AtomicInteger();
+  private final AtomicLong signingNanos = new AtomicLong();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  /**
+   * Constructor - Starts the workers.
+   *
+   * @param transactionCount Number of transactions to sign.
+   * @param transactionFactory Creates the transaction for a sequence number.
+   * @param signerFactory Gets the signer for a sequence number.
+   * @param generationHash Generation hash.
+   * @param workerCount Number of signing threads.
+   * @param capacity Capacity of the ready queue.
+   */
+  public TransactionSigningPipeline(
+      final int transactionCount,
+      final IntFunction<Transaction> transactionFactory,
+      final IntFunction<Account> signerFactory,
+      final String generationHash,
+      final int workerCount,
+      final int capacity) {
+    if (workerCount < 1 || capacity < 1) {
+      throw new IllegalArgumentException("Worker count and capacity must be greater than zero.");
+    }
+    this.transactionCount = transactionCount;
+    this.transactionFactory = transactionFactory;
+    this.signerFactory = signerFactory;
+    this.generationHash = generationHash;
+    this.readyQueue = new ArrayBlockingQueue<>(capacity);
+    this.workers =
+        Executors.newFixedThreadPool(
+            workerCount,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "transaction-signer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    for (int i = 0; i < workerCount; i++) {
+      workers.execute(this::signLoop);
+    }
+  }
+
+  /**
+   * Constructor - One signing thread per core.
+   *
+   * @param transactionCount Number of transactions to sign.
+   * @param transactionFactory Creates the transaction for a sequence number.
+   * @param signerFactory Gets the signer for a sequence number.
+   * @param generationHash Generation hash.
+   * @param capacity Capacity of the ready queue.
+   */
+  public TransactionSigningPipeline(
+      final int transactionCount,
+      final IntFunction<Transaction> transactionFactory,
+      final IntFunction<Account> signerFactory,
+      final String generationHash,
+      final int capacity) {
+    this(
+        transactionCount,
+        transactionFactory,
+        signerFactory,
+        generationHash,
+        Runtime.getRuntime().availableProcessors(),
+        capacity);
+  }
+
+  private void signLoop() {
+    try {
+      int sequence;
+      while (failure.get() == null
+          && !Thread.currentThread().isInterrupted()
+          && (sequence = nextSequence.getAndIncrement()) < transactionCount) {
+        final long startTime = System.nanoTime();
+        final Transaction transaction = transactionFactory.apply(sequence);
+        final SignedTransaction signedTransaction =
+            signerFactory.apply(sequence).sign(transaction, generationHash);
+        signingNanos.addAndGet(System.nanoTime() - startTime);
+        signedCount.incrementAndGet();
+        readyQueue.put(signedTransaction);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final Throwable e) {
+      failure.compareAndSet(null, e);
+    }
+  }
+
+  /**
+   * Takes the next signed transaction. Blocks until one is ready.
+   *
+   * @return Signed transaction or null once all the transactions have been taken.
+   */
+  public SignedTransaction take() {
+    while (takenCount.get() < transactionCount) {
+      final SignedTransaction signedTransaction =
+          ExceptionUtils.propagate(
+              () -> readyQueue.poll(POLL_WAIT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+      if (signedTransaction != null) {
+        takenCount.incrementAndGet();
+        return signedTransaction;
+      }
+      if (failure.get() != null) {
+        throw new IllegalStateException("Failed to sign transaction.", failure.get());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Waits until a number of signed transactions are ready to be taken.
+   *
+   * @param count Number of ready transactions to wait for.
+   */
+  public void awaitReady(final int count) {
+    while (readyQueue.size() < count) {
+      if (failure.get() != null) {
+        throw new IllegalStateException("Failed to sign transaction.", failure.get());
+      }
+      ExceptionUtils.propagateVoid(() -> Thread.sleep(READY_WAIT_IN_MILLISECONDS));
+    }
+  }
+
+  /**
+   * Gets the number of transactions signed so far.
+   *
+   * @return Signed count.
+   */
+  public int getSignedCount() {
+    return signedCount.get();
+  }
+
+  /**
+   * Gets the number of signed transactions waiting to be taken.
+   *
+   * @return Ready count.
+   */
+  public int getReadyCount() {
+    return readyQueue.size();
+  }
+
+  /**
+   * Gets the signing throughput of a single worker: transactions built and signed per second of
+   * worker time.
+   *
+   * @return Signatures per second per worker.
+   */
+  public double getSignaturesPerSecondPerWorker() {
+    final long nanos = signingNanos.get();
+    return nanos == 0 ? 0 : signedCount.get() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+  }
+
+  /** Stops the workers. */
+  @Override
+  public void close() {
+    workers.shutdownNow();
+  }
+}
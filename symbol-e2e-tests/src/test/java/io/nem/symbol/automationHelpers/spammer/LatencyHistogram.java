@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.automationHelpers.spammer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free latency histogram. Values are counted in log-linear buckets: each power of two range is
+ * split into 16 linear buckets, so a reported percentile is within about 6% of the real value.
+ */
+public class LatencyHistogram {
+  /* Number of linear buckets in each power of two range. */
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (Long.SIZE - SUB_BUCKET_BITS + 1);
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong totalCount = new AtomicLong();
+  private final AtomicLong maxValue = new AtomicLong();
+
+  /**
+   * Records a value.
+   *
+   * @param value Value to record. Negative values are recorded as zero.
+   */
+  public void record(final long value) {
+    final long recordedValue = Math.max(0, value);
+    counts.incrementAndGet(getBucketIndex(recordedValue));
+    totalCount.incrementAndGet();
+    maxValue.accumulateAndGet(recordedValue, Math::max);
+  }
+
+  /**
+   * Gets the number of values recorded.
+   *
+   * @return Total count.
+   */
+  public long getTotalCount() {
+    return totalCount.get();
+  }
+
+  /**
+   * Gets the largest value recorded.
+   *
+   * @return Max value.
+   */
+  public long getMaxValue() {
+    return maxValue.get();
+  }
+
+  /**
+   * Gets the value at a percentile.
+   *
+   * @param percentile Percentile between 0 and 100.
+   * @return Upper bound of the bucket holding the percentile or 0 if nothing was recorded.
+   */
+  public long getValueAtPercentile(final double percentile) {
+    final long count = totalCount.get();
+    if (count == 0) {
+      return 0;
+    }
+    final long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long cumulativeCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulativeCount += counts.get(i);
+      if (cumulativeCount >= target) {
+        return Math.min(getBucketUpperBound(i), getMaxValue());
+      }
+    }
+    return getMaxValue();
+  }
+
+  private static int getBucketIndex(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  private static long getBucketUpperBound(final int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+    final int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+    return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.automationHelpers.spammer;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+
+/** Result of a spammer run. */
+public class SpammerReport {
+  private final Properties properties = new Properties();
+
+  /**
+   * Constructor.
+   *
+   * @param settings Spammer settings.
+   * @param injectedCount Number of transactions handed to the announce engine.
+   * @param signaturesPerSecondPerWorker Signing throughput of a single signing thread.
+   * @param announcedCount Number of transactions written to the node.
+   * @param failedCount Number of transactions that could not be written.
+   * @param elapsedInMilliseconds Time taken by the injection.
+   * @param latency Announce latency histogram in microseconds.
+   * @param confirmedCount Number of transactions confirmed.
+   * @param failedStatusCount Number of transactions rejected by the node.
+   * @param pendingCount Number of transactions still unconfirmed or partial.
+   */
+  public SpammerReport(
+      final SpammerSettings settings,
+      final long injectedCount,
+      final double signaturesPerSecondPerWorker,
+      final long announcedCount,
+      final long failedCount,
+      final long elapsedInMilliseconds,
+      final LatencyHistogram latency,
+      final long confirmedCount,
+      final long failedStatusCount,
+      final long pendingCount) {
+    final double achievedTransactionsPerSecond =
+        elapsedInMilliseconds == 0 ? 0 : announcedCount * 1000.0 / elapsedInMilliseconds;
+    put("targetTransactionsPerSecond", settings.getTransactionsPerSecond());
+    put("achievedTransactionsPerSecond", Math.round(achievedTransactionsPerSecond * 100) / 100.0);
+    put("elapsedMilliseconds", elapsedInMilliseconds);
+    put("injected", injectedCount);
+    put("signaturesPerSecondPerWorker", Math.round(signaturesPerSecondPerWorker));
+    put("announced", announcedCount);
+    put("announceFailed", failedCount);
+    put("confirmed", confirmedCount);
+    put("rejected", failedStatusCount);
+    put("pending", pendingCount);
+    put("missing", injectedCount - confirmedCount - failedStatusCount - pendingCount);
+    put("latencyMicros.p50", latency.getValueAtPercentile(50));
+    put("latencyMicros.p90", latency.getValueAtPercentile(90));
+    put("latencyMicros.p99", latency.getValueAtPercentile(99));
+    put("latencyMicros.p999", latency.getValueAtPercentile(99.9));
+    put("latencyMicros.max", latency.getMaxValue());
+  }
+
+  private void put(final String name, final Object value) {
+    properties.setProperty(name, String.valueOf(value));
+  }
+
+  /**
+   * Gets a report value.
+   *
+   * @param name Value name.
+   * @return Value or null if not found.
+   */
+  public String get(final String name) {
+    return properties.getProperty(name);
+  }
+
+  /**
+   * Writes the report as a properties file.
+   *
+   * @param fileName File name.
+   */
+  public void store(final String fileName) {
+    ExceptionUtils.propagateVoid(
+        () -> {
+          try (final OutputStream outputStream = new FileOutputStream(fileName)) {
+            properties.store(outputStream, "Transaction spammer report");
+          }
+        });
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    properties.stringPropertyNames().stream()
+        .sorted()
+        .forEach(
+            name ->
+                builder
+                    .append(name)
+                    .append('=')
+                    .append(properties.getProperty(name))
+                    .append(System.lineSeparator()));
+    return builder.toString();
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.automationHelpers.spammer;
+
+/**
+ * Spammer settings. Each setting is read from a system property (spammer.*) or an environment
+ * variable, with the system property taking precedence.
+ */
+public class SpammerSettings {
+  private final double transactionsPerSecond;
+  private final int durationInSeconds;
+  private final int transactionCount;
+  private final int senderCount;
+  private final int aggregatePercent;
+  private final int connectionCount;
+  private final int confirmationWaitInSeconds;
+  private final String reportFile;
+
+  /**
+   * Constructor.
+   *
+   * @param transactionsPerSecond Target injection rate.
+   * @param durationInSeconds Duration of the injection.
+   * @param transactionCount Number of transactions to inject.
+   * @param senderCount Number of funded accounts signing the transactions.
+   * @param aggregatePercent Percent of the transactions that are aggregate complete.
+   * @param connectionCount Number of connections to the api node.
+   * @param confirmationWaitInSeconds Time to wait for confirmations after the injection.
+   * @param reportFile Report file name.
+   */
+  public SpammerSettings(
+      final double transactionsPerSecond,
+      final int durationInSeconds,
+      final int transactionCount,
+      final int senderCount,
+      final int aggregatePercent,
+      final int connectionCount,
+      final int confirmationWaitInSeconds,
+      final String reportFile) {
+    if (transactionsPerSecond <= 0 || transactionCount < 1 || senderCount < 1) {
+      throw new IllegalArgumentException(
+          "Transaction rate, transaction count and sender count must be greater than zero.");
+    }
+    if (aggregatePercent < 0 || aggregatePercent > 100) {
+      throw new IllegalArgumentException("Aggregate percent must be between 0 and 100.");
+    }
+    this.transactionsPerSecond = transactionsPerSecond;
+    this.durationInSeconds = durationInSeconds;
+    this.transactionCount = transactionCount;
+    this.senderCount = senderCount;
+    this.aggregatePercent = aggregatePercent;
+    this.connectionCount = connectionCount;
+    this.confirmationWaitInSeconds = confirmationWaitInSeconds;
+    this.reportFile = reportFile;
+  }
+
+  /**
+   * Loads the settings from the system properties and environment.
+   *
+   * @return Spammer settings.
+   */
+  public static SpammerSettings load() {
+    final double transactionsPerSecond =
+        Double.parseDouble(getValue("spammer.tps", "TRANSACTIONS_PER_SECOND", "10"));
+    final int durationInSeconds =
+        Integer.parseInt(getValue("spammer.duration", "SPAMMER_DURATION_SECONDS", "60"));
+    final int transactionCount =
+        Integer.parseInt(
+            getValue(
+                "spammer.count",
+                "SPAMMER_TRANSACTION_COUNT",
+                String.valueOf((long) Math.ceil(transactionsPerSecond * durationInSeconds))));
+    return new SpammerSettings(
+        transactionsPerSecond,
+        durationInSeconds,
+        transactionCount,
+        Integer.parseInt(getValue("spammer.senders", "SPAMMER_SENDERS", "10")),
+        Integer.parseInt(getValue("spammer.aggregatePercent", "SPAMMER_AGGREGATE_PERCENT", "10")),
+        Integer.parseInt(getValue("spammer.connections", "SPAMMER_CONNECTIONS", "4")),
+        Integer.parseInt(
+            getValue("spammer.confirmationWait", "SPAMMER_CONFIRMATION_WAIT_SECONDS", "60")),
+        getValue("spammer.reportFile", "SPAMMER_REPORT_FILE", "spammer-report.properties"));
+  }
+
+  private static String getValue(
+      final String propertyName, final String environmentName, final String defaultValue) {
+    final String propertyValue = System.getProperty(propertyName);
+    if (propertyValue != null && !propertyValue.trim().isEmpty()) {
+      return propertyValue.trim();
+    }
+    final String environmentValue = System.getenv(environmentName);
+    if (environmentValue != null && !environmentValue.trim().isEmpty()) {
+      return environmentValue.trim();
+    }
+    return defaultValue;
+  }
+
+  /**
+   * Gets the target injection rate.
+   *
+   * @return Transactions per second.
+   */
+  public double getTransactionsPerSecond() {
+    return transactionsPerSecond;
+  }
+
+  /**
+   * Gets the duration of the injection.
+   *
+   * @return Duration in seconds.
+   */
+  public int getDurationInSeconds() {
+    return durationInSeconds;
+  }
+
+  /**
+   * Gets the number of transactions to inject.
+   *
+   * @return Transaction count.
+   */
+  public int getTransactionCount() {
+    return transactionCount;
+  }
+
+  /**
+   * Gets the number of funded accounts signing the transactions.
+   *
+   * @return Sender count.
+   */
+  public int getSenderCount() {
+    return senderCount;
+  }
+
+  /**
+   * Gets the percent of transactions that are aggregate complete.
+   *
+   * @return Aggregate percent.
+   */
+  public int getAggregatePercent() {
+    return aggregatePercent;
+  }
+
+  /**
+   * Gets the number of connections to the api node.
+   *
+   * @return Connection count.
+   */
+  public int getConnectionCount() {
+    return connectionCount;
+  }
+
+  /**
+   * Gets the time to wait for confirmations after the injection.
+   *
+   * @return Wait in seconds.
+   */
+  public int getConfirmationWaitInSeconds() {
+    return confirmationWaitInSeconds;
+  }
+
+  /**
+   * Gets the report file name.
+   *
+   * @return Report file name.
+   */
+  public String getReportFile() {
+    return reportFile;
+  }
+}
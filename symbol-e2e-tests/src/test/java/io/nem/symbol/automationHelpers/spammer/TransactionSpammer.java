@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2016-present,
+ * Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp. All rights reserved.
+ *
+ * This file is part of Catapult.
+ *
+ * Catapult is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Catapult is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Catapult.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.nem.symbol.automationHelpers.spammer;
+
+import io.nem.symbol.automationHelpers.common.Log;
+import io.nem.symbol.automationHelpers.common.TestContext;
+import io.nem.symbol.automationHelpers.config.ConfigFileReader;
+import io.nem.symbol.automationHelpers.helper.sdk.AggregateHelper;
+import io.nem.symbol.automationHelpers.helper.sdk.TransactionHelper;
+import io.nem.symbol.automationHelpers.helper.sdk.TransactionSigningPipeline;
+import io.nem.symbol.automationHelpers.helper.sdk.TransferHelper;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.infrastructure.directconnect.network.CatapultNodeContext;
+import io.nem.symbol.sdk.infrastructure.directconnect.network.TransactionAnnouncePool;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionState;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Open loop transaction spammer. Transfer and aggregate complete transactions for a pool of funded
+ * accounts are signed ahead of the announce engine by a signing pipeline and announced at a fixed
+ * rate. Each transaction has an intended
+ * send time on the schedule, and its announce latency is measured from that time instead of from
+ * when it was actually sent, so a stalled node shows up in the latency instead of lowering the
+ * rate.
+ */
+public class TransactionSpammer implements AutoCloseable {
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  /* Max inner transactions in a funding aggregate. */
+  private static final int FUNDING_BATCH_SIZE = 100;
+  /* Max hashes in a status lookup. */
+  private static final int STATUS_BATCH_SIZE = 1000;
+  /* Min number of signed transactions kept ready for the announce engine. */
+  private static final int MIN_READY_CAPACITY = 1024;
+  private final TestContext testContext;
+  private final SpammerSettings settings;
+  private final TransactionAnnouncePool announcePool;
+  private final LatencyHistogram announceLatency = new LatencyHistogram();
+  private final AtomicLong announcedCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  /* Longest wait for a write after the end of the schedule. */
+  private final int networkTimeoutInMilliseconds;
+  private final NetworkType networkType;
+  private final long feeMultiplier;
+  private final Log logger;
+
+  /**
+   * Constructor.
+   *
+   * @param testContext Test context.
+   * @param settings Spammer settings.
+   */
+  public TransactionSpammer(final TestContext testContext, final SpammerSettings settings) {
+    this.testContext = testContext;
+    this.settings = settings;
+    this.logger = Log.getLogger("TransactionSpammer");
+    this.networkType = testContext.getNetworkType();
+    this.feeMultiplier = testContext.getMinFeeMultiplier();
+    final ConfigFileReader configFileReader = testContext.getConfigFileReader();
+    final CatapultNodeContext apiNodeContext =
+        new CatapultNodeContext(
+            configFileReader.getAutomationKeyFile(),
+            configFileReader.getAutomationCertificateFile(),
+            configFileReader.getApiServerCertificateFile(),
+            configFileReader.getApiHost(),
+            configFileReader.getApiPort());
+    this.networkTimeoutInMilliseconds = apiNodeContext.getNetworkTimeoutInMilliseconds();
+    this.announcePool =
+        new TransactionAnnouncePool(
+            apiNodeContext,
+            settings.getConnectionCount(),
+            TransactionAnnouncePool.DEFAULT_QUEUE_CAPACITY,
+            TransactionAnnouncePool.DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  /**
+   * Runs the spammer with the settings from the system properties and environment. The report is
+   * logged and written to the report file.
+   *
+   * @param args Not used.
+   */
+  public static void main(final String[] args) {
+    final SpammerSettings settings = SpammerSettings.load();
+    int exitCode = 0;
+    try (final TransactionSpammer spammer = new TransactionSpammer(new TestContext(), settings)) {
+      final SpammerReport report = spammer.run();
+      spammer.logger.LogInfo("Spammer report:{}{}", System.lineSeparator(), report);
+      report.store(settings.getReportFile());
+    } catch (final Exception ex) {
+      Log.getLogger("TransactionSpammer").LogException(ex);
+      exitCode = 1;
+    }
+    System.exit(exitCode);
+  }
+
+  /**
+   * Funds the senders, signs the transactions, injects them and counts the confirmations.
+   *
+   * @return Spammer report.
+   */
+  public SpammerReport run() {
+    final List<Account> senders = createFundedSenders();
+    final List<String> hashes = new ArrayList<>(settings.getTransactionCount());
+    final long elapsedInMilliseconds;
+    final double signaturesPerSecondPerWorker;
+    try (final TransactionSigningPipeline signingPipeline = createSigningPipeline(senders)) {
+      final long startTime = System.nanoTime();
+      inject(signingPipeline, hashes);
+      elapsedInMilliseconds = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+      signaturesPerSecondPerWorker = signingPipeline.getSignaturesPerSecondPerWorker();
+    }
+    final long[] statusCounts = waitForStatuses(hashes);
+    return new SpammerReport(
+        settings,
+        hashes.size(),
+        signaturesPerSecondPerWorker,
+        announcedCount.get(),
+        failedCount.get(),
+        elapsedInMilliseconds,
+        announceLatency,
+        statusCounts[0],
+        statusCounts[1],
+        statusCounts[2]);
+  }
+
+  private Deadline createDeadline() {
+    final int lifetimeInHours = Math.min(23, 2 + settings.getDurationInSeconds() / 3600);
+    return Deadline.create(lifetimeInHours, ChronoUnit.HOURS);
+  }
+
+  private TransferTransaction createTransfer(final Account recipient, final long sequence) {
+    final TransferTransactionFactory transferTransactionFactory =
+        TransferTransactionFactory.create(
+                networkType,
+                recipient.getAddress(),
+                Collections.emptyList(),
+                PlainMessage.create(String.format("spammer %010d", sequence)))
+            .deadline(createDeadline());
+    final long size = transferTransactionFactory.build().getSize();
+    return transferTransactionFactory.maxFee(BigInteger.valueOf(size * feeMultiplier)).build();
+  }
+
+  private AggregateTransaction createAggregate(
+      final Account sender, final Account recipient, final long sequence) {
+    final List<Transaction> innerTransactions =
+        Arrays.asList(
+            createTransfer(recipient, sequence).toAggregate(sender.getPublicAccount()),
+            createTransfer(sender, sequence).toAggregate(sender.getPublicAccount()));
+    return AggregateTransactionFactory.createComplete(networkType, innerTransactions)
+        .deadline(createDeadline())
+        .calculateMaxFeeForAggregate(feeMultiplier, 0)
+        .build();
+  }
+
+  /**
+   * Creates the sender accounts and funds them with enough currency for their fees.
+   *
+   * @return Funded sender accounts.
+   */
+  private List<Account> createFundedSenders() {
+    final List<Account> senders = new ArrayList<>(settings.getSenderCount());
+    for (int i = 0; i < settings.getSenderCount(); i++) {
+      senders.add(Account.generateNewAccount(testContext.getNetworkType()));
+    }
+    final long transactionsPerSender =
+        (settings.getTransactionCount() + senders.size() - 1) / senders.size();
+    final BigInteger maxFee = createAggregate(senders.get(0), senders.get(0), 0).getMaxFee();
+    final Mosaic funding =
+        testContext
+            .getNetworkCurrency()
+            .createAbsolute(maxFee.multiply(BigInteger.valueOf(transactionsPerSender + 1)));
+    final Account fundingAccount = testContext.getDefaultSignerAccount();
+    final TransferHelper transferHelper = new TransferHelper(testContext);
+    final AggregateHelper aggregateHelper = new AggregateHelper(testContext);
+    for (int i = 0; i < senders.size(); i += FUNDING_BATCH_SIZE) {
+      final List<Transaction> fundingTransfers =
+          senders.subList(i, Math.min(senders.size(), i + FUNDING_BATCH_SIZE)).stream()
+              .map(
+                  sender ->
+                      transferHelper
+                          .createTransferTransaction(
+                              sender.getAddress(),
+                              Collections.singletonList(funding),
+                              PlainMessage.Empty)
+                          .toAggregate(fundingAccount.getPublicAccount()))
+              .collect(Collectors.toList());
+      aggregateHelper.submitAggregateCompleteAndWait(fundingAccount, fundingTransfers);
+    }
+    logger.LogInfo(
+        "Funded {} senders with {} each.", senders.size(), funding.getAmount().toString());
+    return senders;
+  }
+
+  /**
+   * Starts the signing pipeline and waits for it to fill the ready queue, so the injection does not
+   * start behind the signers.
+   *
+   * @param senders Sender accounts.
+   * @return Signing pipeline.
+   */
+  private TransactionSigningPipeline createSigningPipeline(final List<Account> senders) {
+    final int aggregateInterval =
+        settings.getAggregatePercent() == 0 ? 0 : 100 / settings.getAggregatePercent();
+    final int capacity =
+        Math.max(MIN_READY_CAPACITY, (int) Math.ceil(settings.getTransactionsPerSecond() * 2));
+    final TransactionSigningPipeline signingPipeline =
+        new TransactionSigningPipeline(
+            settings.getTransactionCount(),
+            sequence -> {
+              final Account sender = senders.get(sequence % senders.size());
+              final Account recipient = senders.get((sequence + 1) % senders.size());
+              return aggregateInterval != 0 && sequence % aggregateInterval == 0
+                  ? createAggregate(sender, recipient, sequence)
+                  : createTransfer(recipient, sequence);
+            },
+            sequence -> senders.get(sequence % senders.size()),
+            testContext.getSymbolConfig().getGenerationHashSeed(),
+            capacity);
+    signingPipeline.awaitReady(Math.min(capacity, settings.getTransactionCount()));
+    logger.LogInfo(
+        "Signing pipeline ready with {} transactions at {} signatures per second per worker.",
+        signingPipeline.getReadyCount(),
+        Math.round(signingPipeline.getSignaturesPerSecondPerWorker()));
+    return signingPipeline;
+  }
+
+  /**
+   * Announces the transactions on the open loop schedule and waits for the writes to finish. The
+   * announce engine pulls from the signing pipeline, so slow signing delays the announces and is
+   * counted in the latency. Writes still pending a network timeout after the end of the schedule,
+   * such as those stalled on a dead node, are counted as failed.
+   *
+   * @param signingPipeline Signing pipeline.
+   * @param hashes List to add the hashes of the injected transactions to.
+   */
+  private void inject(final TransactionSigningPipeline signingPipeline, final List<String> hashes) {
+    final int transactionCount = settings.getTransactionCount();
+    final CountDownLatch completed = new CountDownLatch(transactionCount);
+    /* Guards the counts, so writes finishing after the wait are not counted twice. */
+    final Object countLock = new Object();
+    final AtomicBoolean waitOver = new AtomicBoolean();
+    final double periodInNanos = NANOS_PER_SECOND / settings.getTransactionsPerSecond();
+    final long startTime = System.nanoTime();
+    for (int i = 0; i < transactionCount; i++) {
+      final long intendedTime = startTime + (long) (i * periodInNanos);
+      final SignedTransaction signedTransaction = signingPipeline.take();
+      hashes.add(signedTransaction.getHash());
+      waitUntil(intendedTime);
+      announcePool
+          .announce(signedTransaction)
+          .whenComplete(
+              (result, ex) -> {
+                synchronized (countLock) {
+                  if (waitOver.get()) {
+                    return;
+                  }
+                  if (ex == null) {
+                    announcedCount.incrementAndGet();
+                    announceLatency.record(
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedTime));
+                  } else {
+                    failedCount.incrementAndGet();
+                  }
+                  completed.countDown();
+                }
+              });
+    }
+    final boolean allCompleted =
+        ExceptionUtils.propagate(
+            () -> completed.await(networkTimeoutInMilliseconds, TimeUnit.MILLISECONDS));
+    if (!allCompleted) {
+      synchronized (countLock) {
+        waitOver.set(true);
+        final long unfinishedCount = completed.getCount();
+        failedCount.addAndGet(unfinishedCount);
+        logger.LogError("{} announces did not finish in time, counted as failed.", unfinishedCount);
+      }
+    }
+  }
+
+  private static void waitUntil(final long time) {
+    long remaining;
+    while ((remaining = time - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+
+  /**
+   * Waits until every transaction is confirmed or rejected, or the confirmation wait is over.
+   *
+   * @param hashes Transaction hashes.
+   * @return Confirmed, rejected and pending counts.
+   */
+  private long[] waitForStatuses(final List<String> hashes) {
+    final long waitEnd =
+        System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.getConfirmationWaitInSeconds());
+    final long pollInMilliseconds =
+        TimeUnit.SECONDS.toMillis(testContext.getSymbolConfig().getBlockGenerationTargetTime());
+    while (true) {
+      final long[] statusCounts = countStatuses(hashes);
+      if (statusCounts[0] + statusCounts[1] == hashes.size() || System.nanoTime() >= waitEnd) {
+        return statusCounts;
+      }
+      ExceptionUtils.propagateVoid(() -> Thread.sleep(pollInMilliseconds));
+    }
+  }
+
+  private long[] countStatuses(final List<String> hashes) {
+    final TransactionHelper transactionHelper = new TransactionHelper(testContext);
+    final long[] statusCounts = new long[3];
+    for (int i = 0; i < hashes.size(); i += STATUS_BATCH_SIZE) {
+      final List<TransactionStatus> statuses =
+          transactionHelper.getTransactionStatuses(
+              hashes.subList(i, Math.min(hashes.size(), i + STATUS_BATCH_SIZE)));
+      for (final TransactionStatus status : statuses) {
+        if (status.getGroup() == TransactionState.CONFIRMED) {
+          statusCounts[0]++;
+        } else if (status.getGroup() == TransactionState.FAILED) {
+          statusCounts[1]++;
+        } else {
+          statusCounts[2]++;
+        }
+      }
+    }
+    return statusCounts;
+  }
+
+  /** Closes the announce connections. */
+  @Override
+  public void close() {
+    announcePool.close();
+  }
+}